@@ -1,11 +1,17 @@
 package com.drumtong.backend.api.calendar.controller;
 
+import com.drumtong.backend.api.calendar.dto.CalendarEntryPageDto;
 import com.drumtong.backend.api.calendar.dto.CalendarEntryRequestDto;
 import com.drumtong.backend.api.calendar.dto.CalendarEntryResponseDto;
 import com.drumtong.backend.api.calendar.dto.CalendarSummaryDto;
 import com.drumtong.backend.api.calendar.dto.MonthlyExpenseDto;
+import com.drumtong.backend.api.calendar.dto.PhotoConfirmRequestDto;
+import com.drumtong.backend.api.calendar.dto.PhotoUploadUrlRequestDto;
+import com.drumtong.backend.api.calendar.dto.PhotoUploadUrlResponseDto;
+import com.drumtong.backend.api.calendar.dto.StagedImage;
 import com.drumtong.backend.api.calendar.service.CalendarEntryService;
 import com.drumtong.backend.api.calendar.service.ImageUploadService;
+import com.drumtong.backend.api.calendar.service.PhotoUploadService;
 import com.drumtong.backend.api.groupInfo.controller.GroupInfoController;
 import com.drumtong.backend.api.groupInfo.entity.GroupInfo;
 import com.drumtong.backend.api.member.entity.Member;
@@ -18,10 +24,12 @@ import com.drumtong.backend.common.config.security.SecurityMember;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.HashMap;
@@ -35,6 +43,7 @@ import java.util.Map;
 public class CalendarEntryController {
     private final CalendarEntryService calendarEntryService;
     private final ImageUploadService imageUploadService;
+    private final PhotoUploadService photoUploadService;
     private final MemberRepository memberRepository;
     private final GroupInfoController groupInfoRepository;
 
@@ -48,14 +57,31 @@ public class CalendarEntryController {
         // 인증된 사용자의 ID를 설정
         requestDto.setUserId(securityMember.getId());
 
-        String imageUrl = null;
-        if (image != null && !image.isEmpty()) {
-            imageUrl = imageUploadService.upload(image);
-        }
+        // 이미지는 임시 파일로만 받아두고 S3 업로드는 저장 후 백그라운드에서 처리
+        StagedImage stagedImage = imageUploadService.stage(image);
 
-        CalendarEntryResponseDto response = calendarEntryService.createEntry(requestDto, imageUrl);
+        CalendarEntryResponseDto response = calendarEntryService.createEntry(requestDto, stagedImage);
         return ApiResponse.success(SuccessStatus.CREATE_RECRUIT_ARTICLE_SUCCESS, response);
     }
+    @PostMapping("/photo-upload-url")
+    @Operation(summary = "사진 직접 업로드용 presigned URL 발급")
+    public ResponseEntity<ApiResponse<PhotoUploadUrlResponseDto>> issuePhotoUploadUrl(
+            @AuthenticationPrincipal SecurityMember securityMember,
+            @RequestBody PhotoUploadUrlRequestDto requestDto) {
+        return ApiResponse.success(SuccessStatus.ISSUE_PHOTO_UPLOAD_URL_SUCCESS,
+                photoUploadService.issueUploadUrl(securityMember.getId(), requestDto));
+    }
+
+    @PostMapping("/{id}/photo")
+    @Operation(summary = "직접 업로드한 사진을 캘린더 항목에 등록")
+    public ResponseEntity<ApiResponse<CalendarEntryResponseDto>> attachPhoto(
+            @AuthenticationPrincipal SecurityMember securityMember,
+            @PathVariable Long id,
+            @RequestBody PhotoConfirmRequestDto requestDto) {
+        photoUploadService.attachPhoto(securityMember.getId(), id, requestDto.getKey());
+        return ApiResponse.success(SuccessStatus.ATTACH_PHOTO_SUCCESS, calendarEntryService.getEntry(id));
+    }
+
     @GetMapping("/day")
     @Operation(summary = "특정 날짜의 캘린더 항목 조회")
     public ResponseEntity<ApiResponse<List<CalendarEntryResponseDto>>> getDailyEntries(
@@ -101,14 +127,11 @@ public class CalendarEntryController {
         // 인증된 사용자의 ID를 설정
         requestDto.setUserId(securityMember.getId());
 
-        // 이미지 처리
-        String imageUrl = null;
-        if (image != null && !image.isEmpty()) {
-            imageUrl = imageUploadService.upload(image);
-        }
+        // 이미지 처리 (S3 업로드는 저장 후 백그라운드에서 처리)
+        StagedImage stagedImage = imageUploadService.stage(image);
 
         // 서비스 호출하여 항목 업데이트
-        CalendarEntryResponseDto response = calendarEntryService.updateEntry(id, requestDto, imageUrl);
+        CalendarEntryResponseDto response = calendarEntryService.updateEntry(id, requestDto, stagedImage);
         return ApiResponse.success(SuccessStatus.SEND_HEALTH_SUCCESS, response);
     }
 
@@ -143,6 +166,26 @@ public class CalendarEntryController {
                 calendarEntryService.listEntriesByUser(securityMember.getId()));
     }
 
+    @GetMapping("/page")
+    @Operation(summary = "userid가 일치하는 캘린더 페이지 조회 (최신 날짜순, cursor 기반)")
+    public ResponseEntity<ApiResponse<CalendarEntryPageDto>> getMyEntriesPage(
+            @AuthenticationPrincipal SecurityMember securityMember,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ApiResponse.success(SuccessStatus.SEND_HEALTH_SUCCESS,
+                calendarEntryService.listEntriesByUser(securityMember.getId(), cursor, size));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "userid가 일치하는 모든 캘린더 스트리밍 조회 (NDJSON)")
+    public ResponseEntity<StreamingResponseBody> streamMyEntries(
+            @AuthenticationPrincipal SecurityMember securityMember) {
+        Long userId = securityMember.getId();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> calendarEntryService.streamEntriesByUser(userId, out));
+    }
+
     @GetMapping("/month")
     @Operation(summary = "usrid와 일치하는 한달동안의 캘린더 조회")
     public ResponseEntity<ApiResponse<List<CalendarSummaryDto>>> getMyMonthlyCalendar(
@@ -155,19 +198,21 @@ public class CalendarEntryController {
                 calendarEntryService.getMonthlyCalendarSummary(securityMember.getId(), year, month));
     }
     @GetMapping("/month-expense")
-    @Operation(summary = "최근 5개월 동안 사용한 총 금액 조회")
+    @Operation(summary = "최근 N개월(기본 5개월) 동안 사용한 총 금액 조회")
     public ResponseEntity<ApiResponse<List<MonthlyExpenseDto>>> getMonthlyExpense(
             @AuthenticationPrincipal SecurityMember securityMember,
             @RequestParam(required = false) Integer year,
-            @RequestParam(required = false) Integer month) {
+            @RequestParam(required = false) Integer month,
+            @RequestParam(required = false) Integer months) {
 
         // 파라미터가 제공되지 않으면 현재 날짜 사용
         LocalDate now = LocalDate.now();
         int currentYear = (year != null) ? year : now.getYear();
         int currentMonth = (month != null) ? month : now.getMonthValue();
+        int monthCount = (months != null) ? months : CalendarEntryService.DEFAULT_EXPENSE_MONTHS;
 
         List<MonthlyExpenseDto> expenses = calendarEntryService.getRecentMonthsExpense(
-                securityMember.getId(), currentYear, currentMonth);
+                securityMember.getId(), currentYear, currentMonth, monthCount);
 
         return ApiResponse.success(SuccessStatus.SEND_HEALTH_SUCCESS, expenses);
     }
@@ -191,6 +236,25 @@ public class CalendarEntryController {
         return ApiResponse.success(SuccessStatus.SEND_HEALTH_SUCCESS, entries);
     }
 
+    @GetMapping("/group/{groupId}/page")
+    @Operation(summary = "그룹별 캘린더 페이지 조회 (최신 날짜순, cursor 기반)")
+    public ResponseEntity<ApiResponse<CalendarEntryPageDto>> getGroupEntriesPage(
+            @PathVariable Long groupId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ApiResponse.success(SuccessStatus.SEND_HEALTH_SUCCESS,
+                calendarEntryService.getEntriesByGroupId(groupId, cursor, size));
+    }
+
+    @GetMapping(value = "/group/{groupId}/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "그룹별 캘린더 스트리밍 조회 (NDJSON)")
+    public ResponseEntity<StreamingResponseBody> streamGroupEntries(
+            @PathVariable Long groupId) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> calendarEntryService.streamEntriesByGroupId(groupId, out));
+    }
+
     /**
      * 로그인한 사용자의 그룹 공유 항목 조회
      */
@@ -202,6 +266,26 @@ public class CalendarEntryController {
                 calendarEntryService.getGroupSharedEntriesByUserId(securityMember.getId());
         return ApiResponse.success(SuccessStatus.SEND_HEALTH_SUCCESS, entries);
     }
+
+    @GetMapping("/my-group-entries/page")
+    @Operation(summary = "내 그룹 공유 항목 페이지 조회 (최신 날짜순, cursor 기반)")
+    public ResponseEntity<ApiResponse<CalendarEntryPageDto>> getMyGroupSharedEntriesPage(
+            @AuthenticationPrincipal SecurityMember securityMember,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ApiResponse.success(SuccessStatus.SEND_HEALTH_SUCCESS,
+                calendarEntryService.getGroupSharedEntriesByUserId(securityMember.getId(), cursor, size));
+    }
+
+    @GetMapping(value = "/my-group-entries/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(summary = "내 그룹 공유 항목 스트리밍 조회 (NDJSON)")
+    public ResponseEntity<StreamingResponseBody> streamMyGroupSharedEntries(
+            @AuthenticationPrincipal SecurityMember securityMember) {
+        Long userId = securityMember.getId();
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(out -> calendarEntryService.streamGroupSharedEntriesByUserId(userId, out));
+    }
     // 그룹별 주간 지출 조회 API 수정
     @GetMapping("/group/{groupId}/week-expense")
     @Operation(summary = "그룹별 특정 주의 사용한 총 금액 조회")
@@ -231,21 +315,23 @@ public class CalendarEntryController {
                 calendarEntryService.getGroupMonthlyCalendarSummary(groupId, year, month));
     }
 
-    // 그룹별 최근 5개월 지출 조회 API
+    // 그룹별 최근 N개월(기본 5개월) 지출 조회 API
     @GetMapping("/group/{groupId}/month-expense")
-    @Operation(summary = "그룹별 최근 5개월 동안 사용한 총 금액 조회")
+    @Operation(summary = "그룹별 최근 N개월(기본 5개월) 동안 사용한 총 금액 조회")
     public ResponseEntity<ApiResponse<List<MonthlyExpenseDto>>> getGroupMonthlyExpense(
             @PathVariable Long groupId,
             @RequestParam(required = false) Integer year,
-            @RequestParam(required = false) Integer month) {
+            @RequestParam(required = false) Integer month,
+            @RequestParam(required = false) Integer months) {
 
         // 파라미터가 제공되지 않으면 현재 날짜 사용
         LocalDate now = LocalDate.now();
         int currentYear = (year != null) ? year : now.getYear();
         int currentMonth = (month != null) ? month : now.getMonthValue();
+        int monthCount = (months != null) ? months : CalendarEntryService.DEFAULT_EXPENSE_MONTHS;
 
         List<MonthlyExpenseDto> expenses = calendarEntryService.getGroupRecentMonthsExpense(
-                groupId, currentYear, currentMonth);
+                groupId, currentYear, currentMonth, monthCount);
 
         return ApiResponse.success(SuccessStatus.SEND_HEALTH_SUCCESS, expenses);
     }
@@ -0,0 +1,36 @@
+package com.drumtong.backend.api.calendar.controller;
+
+import com.drumtong.backend.api.calendar.service.GroupFanoutService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 그룹 항목 멤버 복사 outbox 운영용 actuator 엔드포인트 (/actuator/groupfanout)
+ * 기본으로는 노출되지 않으며, management.endpoints.web.exposure.include에 추가해야 사용 가능
+ * - GET: 대기/실패 건수와 가장 오래 대기 중인 작업의 대기 시간
+ * - POST: 재시도를 소진한 작업을 다시 대기 상태로 돌림
+ */
+@Component
+@Endpoint(id = "groupfanout")
+@RequiredArgsConstructor
+public class GroupFanoutEndpoint {
+    private final GroupFanoutService groupFanoutService;
+
+    @ReadOperation
+    public Map<String, Object> status() {
+        return Map.of(
+                "pending", groupFanoutService.countPending(),
+                "failed", groupFanoutService.countFailed(),
+                "oldestPendingSeconds", groupFanoutService.getOldestPendingAge().toSeconds());
+    }
+
+    @WriteOperation
+    public Map<String, Object> retryFailed() {
+        return Map.of("requeued", groupFanoutService.retryFailed());
+    }
+}
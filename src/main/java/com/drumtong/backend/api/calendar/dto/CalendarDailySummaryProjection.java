@@ -0,0 +1,14 @@
+package com.drumtong.backend.api.calendar.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 월간 캘린더 요약 집계 결과 (날짜, 음료 종류별 1행)
+ */
+public interface CalendarDailySummaryProjection {
+    LocalDate getDrinkingDate();
+    Long getEntryCount();
+    Long getPriceSum();
+    String getDrinkType();
+    Long getQuantitySum();
+}
@@ -0,0 +1,58 @@
+package com.drumtong.backend.api.calendar.dto;
+
+import com.drumtong.backend.api.calendar.entity.CalendarEntry;
+import com.drumtong.backend.common.exception.BadRequestException;
+import com.drumtong.backend.common.response.ErrorStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 캘린더 목록 페이지 커서 (마지막으로 조회한 항목의 drinkingDate, id)
+ * 날짜가 없는 항목은 UNDATED로 기록 (목록 맨 뒤)
+ * 클라이언트에는 Base64 문자열로만 전달
+ */
+@Getter
+@AllArgsConstructor
+public class CalendarEntryCursor {
+    // 첫 페이지 조회용 (모든 항목보다 뒤)
+    public static final CalendarEntryCursor FIRST = new CalendarEntryCursor(LocalDate.of(9999, 12, 31), Long.MAX_VALUE);
+    // 날짜가 없는 항목의 정렬 기준 날짜 (CalendarEntryRepository 페이지 쿼리의 coalesce 값과 같아야 함)
+    public static final LocalDate UNDATED = LocalDate.of(1, 1, 1);
+
+    private static final String SEPARATOR = ":";
+
+    private final LocalDate drinkingDate;
+    private final Long id;
+
+    public static CalendarEntryCursor of(CalendarEntry entry) {
+        LocalDate drinkingDate = entry.getDrinkingDate() != null ? entry.getDrinkingDate() : UNDATED;
+        return new CalendarEntryCursor(drinkingDate, entry.getId());
+    }
+
+    public String encode() {
+        String raw = drinkingDate + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static CalendarEntryCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return FIRST;
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length != 2) {
+                throw new BadRequestException(ErrorStatus.INVALID_PAGE_CURSOR_EXCEPTION.getMessage());
+            }
+            return new CalendarEntryCursor(LocalDate.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_PAGE_CURSOR_EXCEPTION.getMessage());
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.drumtong.backend.api.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 캘린더 항목 목록의 한 페이지 (drinkingDate, id 내림차순, 날짜가 없는 항목은 맨 뒤)
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 전달해서 조회
+ */
+@Getter
+@AllArgsConstructor
+public class CalendarEntryPageDto {
+    private List<CalendarEntryResponseDto> entries;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -1,6 +1,7 @@
 package com.drumtong.backend.api.calendar.dto;
 
 import com.drumtong.backend.api.calendar.entity.CalendarEntry;
+import com.drumtong.backend.api.calendar.entity.PhotoStatus;
 import lombok.Data;
 import lombok.NoArgsConstructor;
 
@@ -18,6 +19,8 @@ public class CalendarEntryResponseDto {
     private String memo;
     private Integer totalPrice;
     private String photoUrl;
+    private PhotoStatus photoStatus; // PENDING이면 아직 업로드 중
+    private String thumbnailUrl;
     private LocalDateTime createdAt;
     private Boolean isGroupShared; // 그룹 공유 여부
     private List<DrinkDto> drinks;
@@ -30,6 +33,8 @@ public class CalendarEntryResponseDto {
         this.memo = entry.getMemo();
         this.totalPrice = entry.getTotalPrice();
         this.photoUrl = entry.getPhotoUrl();
+        this.photoStatus = entry.getPhotoStatus();
+        this.thumbnailUrl = entry.getThumbnailUrl();
         this.createdAt = entry.getCreatedAt();
         this.isGroupShared = entry.getIsGroupShared();
     }
@@ -0,0 +1,34 @@
+package com.drumtong.backend.api.calendar.dto;
+
+import com.drumtong.backend.api.calendar.entity.DailySpendOwnerType;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.time.LocalDate;
+import java.util.Comparator;
+
+/**
+ * 일별 지출 집계 행을 식별하는 키 (소유자 구분, 소유자 ID, 날짜)
+ * 여러 행을 잠글 때 교착 상태를 피하기 위해 항상 같은 순서로 정렬해서 사용
+ */
+@Getter
+@ToString
+@EqualsAndHashCode
+@AllArgsConstructor
+public class DailySpendRollupKey implements Comparable<DailySpendRollupKey> {
+    private static final Comparator<DailySpendRollupKey> ORDER = Comparator
+            .comparing(DailySpendRollupKey::getOwnerType)
+            .thenComparing(DailySpendRollupKey::getOwnerId)
+            .thenComparing(DailySpendRollupKey::getSpendDate);
+
+    private final DailySpendOwnerType ownerType;
+    private final Long ownerId;
+    private final LocalDate spendDate;
+
+    @Override
+    public int compareTo(DailySpendRollupKey other) {
+        return ORDER.compare(this, other);
+    }
+}
@@ -0,0 +1,12 @@
+package com.drumtong.backend.api.calendar.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 집계 검증 결과 (calendar_entries 기준 값과 다른 집계 행의 키)
+ */
+public interface DailySpendRollupKeyProjection {
+    String getOwnerType();
+    Long getOwnerId();
+    LocalDate getSpendDate();
+}
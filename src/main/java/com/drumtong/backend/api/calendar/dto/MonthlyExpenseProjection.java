@@ -0,0 +1,11 @@
+package com.drumtong.backend.api.calendar.dto;
+
+import java.time.LocalDate;
+
+/**
+ * 월별 지출 합계 집계 결과 (월의 첫날, 합계)
+ */
+public interface MonthlyExpenseProjection {
+    LocalDate getMonthStart();
+    Long getTotalPrice();
+}
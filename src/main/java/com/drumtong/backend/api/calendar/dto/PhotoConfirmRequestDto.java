@@ -0,0 +1,10 @@
+package com.drumtong.backend.api.calendar.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PhotoConfirmRequestDto {
+    private String key; // 업로드 URL 발급 시 받은 key
+}
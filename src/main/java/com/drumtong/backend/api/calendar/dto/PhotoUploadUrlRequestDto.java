@@ -0,0 +1,11 @@
+package com.drumtong.backend.api.calendar.dto;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class PhotoUploadUrlRequestDto {
+    private String contentType; // image/jpeg, image/png, image/webp, image/heic
+    private Long contentLength; // 업로드할 파일 크기 (byte)
+}
@@ -0,0 +1,21 @@
+package com.drumtong.backend.api.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+import java.util.Map;
+
+/**
+ * S3 직접 업로드 정보
+ * uploadUrl로 headers를 그대로 붙여 PUT 요청한 뒤, key로 사진 등록(confirm) API 호출
+ * 업로드 key는 등록 시 서버 key로 복사 후 삭제되므로, 사진 URL은 등록 응답의 항목에서 확인
+ */
+@Getter
+@AllArgsConstructor
+public class PhotoUploadUrlResponseDto {
+    private String key;
+    private String uploadUrl;
+    private Map<String, String> headers;
+    private Instant expiresAt;
+}
@@ -0,0 +1,17 @@
+package com.drumtong.backend.api.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * 크기를 줄이고 메타데이터를 제거한 본 이미지와 썸네일 (임시 파일)
+ */
+@Getter
+@AllArgsConstructor
+public class ProcessedImage {
+    private final Path mainFile;
+    private final Path thumbnailFile;
+    private final String contentType;
+}
@@ -0,0 +1,25 @@
+package com.drumtong.backend.api.calendar.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.file.Path;
+
+/**
+ * 요청에서 받은 이미지를 임시 파일로 옮겨둔 상태 (S3 업로드 전)
+ * url/thumbnailUrl은 업로드 후의 주소로 미리 정해져 있어서 항목에 바로 저장 가능
+ * 변환하지 못해 원본을 그대로 올릴 때는 원본 형식의 확장자를 쓰는 originalKey/originalUrl 사용
+ */
+@Getter
+@AllArgsConstructor
+public class StagedImage {
+    private final String key;
+    private final String url;
+    private final String thumbnailKey;
+    private final String thumbnailUrl;
+    private final String originalKey;
+    private final String originalUrl;
+    private final Path file;
+    private final String contentType;
+    private final long size;
+}
@@ -11,8 +11,10 @@ import lombok.*;
 @Builder
 @Table(name = "calendar_drinks")
 public class CalendarDrink {
+    // 배치 INSERT용 시퀀스 (calendar_entries_seq와 같은 방식)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "calendar_drinks_seq")
+    @SequenceGenerator(name = "calendar_drinks_seq", sequenceName = "calendar_drinks_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne
@@ -5,6 +5,7 @@ import lombok.*;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Getter
 @Setter
@@ -12,10 +13,17 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-@Table(name = "calendar_entries")
+@Table(name = "calendar_entries",
+        indexes = {
+                // 목록 페이지 조회 (drinkingDate, id 내림차순 keyset)
+                @Index(name = "idx_calendar_entries_user_date_id", columnList = "user_id, drinking_date desc, id desc"),
+                @Index(name = "idx_calendar_entries_group_date_id", columnList = "group_id, drinking_date desc, id desc")
+        })
 public class CalendarEntry {
+    // 그룹 항목 일괄 저장 시 JDBC 배치 INSERT가 가능하도록 시퀀스 사용 (50개 단위로 미리 할당)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "calendar_entries_seq")
+    @SequenceGenerator(name = "calendar_entries_seq", sequenceName = "calendar_entries_seq", allocationSize = 50)
     private Long id;
 
     private Long groupId;
@@ -28,8 +36,27 @@ public class CalendarEntry {
     private Integer totalPrice;
     private String photoUrl;
 
+    // S3 업로드 상태 (사진이 없거나 이전 데이터는 null)
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10)
+    private PhotoStatus photoStatus;
+
+    // 목록/월간 화면용 작은 이미지 (변환할 수 없는 형식이면 null)
+    private String thumbnailUrl;
+
+    // 현재 사진이 항목에 지정된 시각 (업로드 결과 없이 오래 PENDING인 사진 판단용)
+    private LocalDateTime photoStagedAt;
+
     private LocalDateTime createdAt = LocalDateTime.now();
 
     private Boolean isGroupShared;
     private Long groupEntryId;
+
+    // 사진이 바뀔 때만 지정 시각 갱신
+    public void setPhotoUrl(String photoUrl) {
+        if (!Objects.equals(this.photoUrl, photoUrl)) {
+            this.photoStagedAt = LocalDateTime.now();
+        }
+        this.photoUrl = photoUrl;
+    }
 }
@@ -0,0 +1,9 @@
+package com.drumtong.backend.api.calendar.entity;
+
+/**
+ * 일별 지출 집계의 소유자 구분 (개인 / 그룹)
+ */
+public enum DailySpendOwnerType {
+    USER,
+    GROUP
+}
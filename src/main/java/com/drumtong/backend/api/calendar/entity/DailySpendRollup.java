@@ -0,0 +1,55 @@
+package com.drumtong.backend.api.calendar.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 소유자(개인/그룹)별 일별 지출 집계
+ * calendar_entries 변경 시 같은 트랜잭션에서 다시 계산되며, 주간/월간 합계 조회에 사용
+ */
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "daily_spend_rollup",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_daily_spend_rollup_owner_date",
+                columnNames = {"owner_type", "owner_id", "spend_date"}))
+public class DailySpendRollup {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "owner_type", length = 10, nullable = false)
+    private DailySpendOwnerType ownerType;
+
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "spend_date", nullable = false)
+    private LocalDate spendDate;
+
+    private int totalPrice;
+    private int entryCount;
+
+    // 음료 종류별 수량 합계
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "daily_spend_rollup_drinks", joinColumns = @JoinColumn(name = "rollup_id"))
+    @MapKeyColumn(name = "drink_type", length = 50)
+    @Column(name = "quantity")
+    private Map<String, Integer> drinkQuantities = new HashMap<>();
+
+    public void update(int entryCount, int totalPrice, Map<String, Integer> drinkQuantities) {
+        this.entryCount = entryCount;
+        this.totalPrice = totalPrice;
+        this.drinkQuantities.clear();
+        this.drinkQuantities.putAll(drinkQuantities);
+    }
+}
@@ -0,0 +1,76 @@
+package com.drumtong.backend.api.calendar.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * 그룹 항목의 멤버별 복사(isGroupShared 항목) 작업
+ * 원본 항목과 같은 트랜잭션에서 저장되고, GroupFanoutWorker가 백그라운드에서 처리
+ */
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "group_fanout_outbox",
+        indexes = {
+                @Index(name = "idx_group_fanout_outbox_status_next", columnList = "status, next_attempt_at"),
+                @Index(name = "idx_group_fanout_outbox_group_entry", columnList = "group_entry_id")
+        })
+public class GroupFanoutOutbox {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // 원본 항목 ID (CalendarEntry.groupEntryId)
+    @Column(name = "group_entry_id", nullable = false)
+    private Long groupEntryId;
+
+    @Column(name = "group_id", nullable = false)
+    private Long groupId;
+
+    // 작성 시점의 그룹 멤버 (작성자 제외)
+    @Builder.Default
+    @ElementCollection
+    @CollectionTable(name = "group_fanout_outbox_members", joinColumns = @JoinColumn(name = "outbox_id"))
+    @Column(name = "member_id")
+    private Set<Long> memberIds = new HashSet<>();
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private GroupFanoutStatus status = GroupFanoutStatus.PENDING;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime processedAt;
+
+    public void markDone(LocalDateTime now) {
+        this.status = GroupFanoutStatus.DONE;
+        this.processedAt = now;
+        this.lastError = null;
+    }
+
+    // 실패 기록 후 다음 시도 시각 설정, 최대 횟수를 넘으면 FAILED로 중단
+    public void markRetry(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+        if (this.attempts >= maxAttempts) {
+            this.status = GroupFanoutStatus.FAILED;
+        }
+    }
+}
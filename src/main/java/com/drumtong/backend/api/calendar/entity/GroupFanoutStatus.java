@@ -0,0 +1,10 @@
+package com.drumtong.backend.api.calendar.entity;
+
+/**
+ * 그룹 항목 멤버 복사 작업 상태
+ */
+public enum GroupFanoutStatus {
+    PENDING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,7 @@
+package com.drumtong.backend.api.calendar.entity;
+
+public enum PhotoStatus {
+    PENDING,
+    READY,
+    FAILED
+}
@@ -3,10 +3,20 @@ package com.drumtong.backend.api.calendar.repository;
 import com.drumtong.backend.api.calendar.entity.CalendarDrink;
 import com.drumtong.backend.api.calendar.entity.CalendarEntry;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CalendarDrinkRepository extends JpaRepository<CalendarDrink, Long> {
     List<CalendarDrink> findByCalendarEntry(CalendarEntry entry);
     void deleteByCalendarEntry(CalendarEntry entry);
-}
\ No newline at end of file
+
+    // 여러 캘린더 항목의 음료 정보를 음료와 함께 한 번에 조회
+    @Query("select cd from CalendarDrink cd " +
+            "join fetch cd.calendarEntry " +
+            "join fetch cd.drink " +
+            "where cd.calendarEntry.id in :entryIds")
+    List<CalendarDrink> findAllWithDrinkByCalendarEntryIds(@Param("entryIds") Collection<Long> entryIds);
+}
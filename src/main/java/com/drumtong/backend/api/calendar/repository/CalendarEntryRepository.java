@@ -1,10 +1,22 @@
 package com.drumtong.backend.api.calendar.repository;
 
+import com.drumtong.backend.api.calendar.dto.CalendarDailySummaryProjection;
 import com.drumtong.backend.api.calendar.entity.CalendarEntry;
+import com.drumtong.backend.api.calendar.entity.PhotoStatus;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface CalendarEntryRepository extends JpaRepository<CalendarEntry, Long> {
     // 기존 메소드들...
@@ -20,4 +32,144 @@ public interface CalendarEntryRepository extends JpaRepository<CalendarEntry, Lo
     List<CalendarEntry> findByGroupIdAndDrinkingDate(Long groupId, LocalDate drinkingDate);
     List<CalendarEntry> findByGroupIdAndGroupEntryId(Long groupId, Long groupEntryId);
     List<CalendarEntry> findByGroupEntryId(Long groupEntryId);
-}
\ No newline at end of file
+
+    // 업로드 완료/실패 시 같은 사진을 쓰는 항목(그룹 멤버 복사본 포함) 상태 변경
+    // 원본을 그대로 올린 경우 실제로 올라간 key의 URL(uploadedUrl)로 교체
+    @Modifying
+    @Query("update CalendarEntry ce set ce.photoUrl = :uploadedUrl, ce.photoStatus = :status, " +
+            "ce.thumbnailUrl = :thumbnailUrl where ce.photoUrl = :photoUrl")
+    int updateUploadedPhoto(@Param("photoUrl") String photoUrl,
+                            @Param("uploadedUrl") String uploadedUrl,
+                            @Param("status") PhotoStatus status,
+                            @Param("thumbnailUrl") String thumbnailUrl);
+
+    // 지정된 지 오래됐는데 업로드 결과가 없는 사진을 FAILED로 (커밋 후 업로드 전에 서버가 종료된 경우)
+    @Modifying
+    @Query("update CalendarEntry ce set ce.photoStatus = :failed " +
+            "where ce.photoStatus = :pending and ce.photoStagedAt < :before")
+    int failStalePhotos(@Param("pending") PhotoStatus pending,
+                        @Param("failed") PhotoStatus failed,
+                        @Param("before") LocalDateTime before);
+
+    // 아직 항목에서 쓰고 있는 사진 URL (사진 삭제 전 참조 확인용)
+    @Query("select distinct ce.photoUrl from CalendarEntry ce where ce.photoUrl in :photoUrls")
+    List<String> findReferencedPhotoUrls(@Param("photoUrls") Collection<String> photoUrls);
+
+    // 항목이 참조하는 모든 사진/썸네일 URL (고아 객체 정리용, 읽기 전용 트랜잭션 안에서 사용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select ce.photoUrl from CalendarEntry ce where ce.photoUrl is not null " +
+            "union select ce.thumbnailUrl from CalendarEntry ce where ce.thumbnailUrl is not null")
+    Stream<String> streamReferencedPhotoUrls();
+
+    /*
+     * 목록 페이지 조회 (drinkingDate, id 내림차순 keyset)
+     * 날짜가 없는 항목은 CalendarEntryCursor.UNDATED(0001-01-01)로 보고 맨 뒤에 정렬해서
+     * 스트리밍 조회(nulls last)와 같은 순서, 같은 항목을 반환 (V7의 coalesce 인덱스 사용)
+     */
+    @Query(value = "select * from calendar_entries ce " +
+            "where ce.user_id = :userId " +
+            "  and (coalesce(ce.drinking_date, date '0001-01-01') < :cursorDate " +
+            "       or (coalesce(ce.drinking_date, date '0001-01-01') = :cursorDate and ce.id < :cursorId)) " +
+            "order by coalesce(ce.drinking_date, date '0001-01-01') desc, ce.id desc",
+            nativeQuery = true)
+    List<CalendarEntry> findPageByUserId(@Param("userId") Long userId,
+                                         @Param("cursorDate") LocalDate cursorDate,
+                                         @Param("cursorId") Long cursorId,
+                                         Pageable pageable);
+
+    @Query(value = "select * from calendar_entries ce " +
+            "where ce.group_id = :groupId " +
+            "  and (coalesce(ce.drinking_date, date '0001-01-01') < :cursorDate " +
+            "       or (coalesce(ce.drinking_date, date '0001-01-01') = :cursorDate and ce.id < :cursorId)) " +
+            "order by coalesce(ce.drinking_date, date '0001-01-01') desc, ce.id desc",
+            nativeQuery = true)
+    List<CalendarEntry> findPageByGroupId(@Param("groupId") Long groupId,
+                                          @Param("cursorDate") LocalDate cursorDate,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
+
+    @Query(value = "select * from calendar_entries ce " +
+            "where ce.user_id = :userId and ce.is_group_shared = true " +
+            "  and (coalesce(ce.drinking_date, date '0001-01-01') < :cursorDate " +
+            "       or (coalesce(ce.drinking_date, date '0001-01-01') = :cursorDate and ce.id < :cursorId)) " +
+            "order by coalesce(ce.drinking_date, date '0001-01-01') desc, ce.id desc",
+            nativeQuery = true)
+    List<CalendarEntry> findGroupSharedPageByUserId(@Param("userId") Long userId,
+                                                    @Param("cursorDate") LocalDate cursorDate,
+                                                    @Param("cursorId") Long cursorId,
+                                                    Pageable pageable);
+
+    // NDJSON 스트리밍용 (JDBC 커서로 fetch size 단위로 읽음, 읽기 전용 트랜잭션 안에서 사용)
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select ce from CalendarEntry ce where ce.userId = :userId " +
+            "order by ce.drinkingDate desc nulls last, ce.id desc")
+    Stream<CalendarEntry> streamByUserId(@Param("userId") Long userId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select ce from CalendarEntry ce where ce.groupId = :groupId " +
+            "order by ce.drinkingDate desc nulls last, ce.id desc")
+    Stream<CalendarEntry> streamByGroupId(@Param("groupId") Long groupId);
+
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "200"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("select ce from CalendarEntry ce where ce.userId = :userId and ce.isGroupShared = true " +
+            "order by ce.drinkingDate desc nulls last, ce.id desc")
+    Stream<CalendarEntry> streamGroupSharedByUserId(@Param("userId") Long userId);
+
+    // 사용자 기준 일자별 항목 수, 금액 합계와 음료 종류별 수량 합계 집계
+    @Query(value = "with daily as (" +
+            "    select ce.drinking_date, count(*) as entry_count, coalesce(sum(ce.total_price), 0) as price_sum" +
+            "    from calendar_entries ce" +
+            "    where ce.user_id = :userId and ce.drinking_date between :startDate and :endDate" +
+            "    group by ce.drinking_date" +
+            "), daily_drinks as (" +
+            "    select ce.drinking_date, d.type as drink_type, sum(cd.quantity) as quantity_sum" +
+            "    from calendar_entries ce" +
+            "    join calendar_drinks cd on cd.calendar_id = ce.id" +
+            "    join drinks d on d.id = cd.drink_id" +
+            "    where ce.user_id = :userId and ce.drinking_date between :startDate and :endDate" +
+            "    group by ce.drinking_date, d.type" +
+            ") " +
+            "select daily.drinking_date as \"drinkingDate\", daily.entry_count as \"entryCount\", daily.price_sum as \"priceSum\", " +
+            "       daily_drinks.drink_type as \"drinkType\", daily_drinks.quantity_sum as \"quantitySum\" " +
+            "from daily left join daily_drinks on daily_drinks.drinking_date = daily.drinking_date " +
+            "order by daily.drinking_date",
+            nativeQuery = true)
+    List<CalendarDailySummaryProjection> summarizeDailyByUserId(@Param("userId") Long userId,
+                                                                @Param("startDate") LocalDate startDate,
+                                                                @Param("endDate") LocalDate endDate);
+
+    // 그룹 기준 일자별 항목 수, 금액 합계와 음료 종류별 수량 합계 집계
+    @Query(value = "with daily as (" +
+            "    select ce.drinking_date, count(*) as entry_count, coalesce(sum(ce.total_price), 0) as price_sum" +
+            "    from calendar_entries ce" +
+            "    where ce.group_id = :groupId and ce.drinking_date between :startDate and :endDate" +
+            "    group by ce.drinking_date" +
+            "), daily_drinks as (" +
+            "    select ce.drinking_date, d.type as drink_type, sum(cd.quantity) as quantity_sum" +
+            "    from calendar_entries ce" +
+            "    join calendar_drinks cd on cd.calendar_id = ce.id" +
+            "    join drinks d on d.id = cd.drink_id" +
+            "    where ce.group_id = :groupId and ce.drinking_date between :startDate and :endDate" +
+            "    group by ce.drinking_date, d.type" +
+            ") " +
+            "select daily.drinking_date as \"drinkingDate\", daily.entry_count as \"entryCount\", daily.price_sum as \"priceSum\", " +
+            "       daily_drinks.drink_type as \"drinkType\", daily_drinks.quantity_sum as \"quantitySum\" " +
+            "from daily left join daily_drinks on daily_drinks.drinking_date = daily.drinking_date " +
+            "order by daily.drinking_date",
+            nativeQuery = true)
+    List<CalendarDailySummaryProjection> summarizeDailyByGroupId(@Param("groupId") Long groupId,
+                                                                 @Param("startDate") LocalDate startDate,
+                                                                 @Param("endDate") LocalDate endDate);
+}
@@ -0,0 +1,118 @@
+package com.drumtong.backend.api.calendar.repository;
+
+import com.drumtong.backend.api.calendar.dto.DailySpendRollupKeyProjection;
+import com.drumtong.backend.api.calendar.dto.MonthlyExpenseProjection;
+import com.drumtong.backend.api.calendar.entity.DailySpendOwnerType;
+import com.drumtong.backend.api.calendar.entity.DailySpendRollup;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+public interface DailySpendRollupRepository extends JpaRepository<DailySpendRollup, Long> {
+
+    List<DailySpendRollup> findByOwnerTypeAndOwnerIdAndSpendDateBetween(DailySpendOwnerType ownerType, Long ownerId,
+                                                                        LocalDate startDate, LocalDate endDate);
+
+    @Query("select coalesce(sum(r.totalPrice), 0) from DailySpendRollup r " +
+            "where r.ownerType = :ownerType and r.ownerId = :ownerId and r.spendDate between :startDate and :endDate")
+    long sumTotalPrice(@Param("ownerType") DailySpendOwnerType ownerType,
+                       @Param("ownerId") Long ownerId,
+                       @Param("startDate") LocalDate startDate,
+                       @Param("endDate") LocalDate endDate);
+
+    // 기간 내 월별 지출 합계 (지출이 없는 월은 조회되지 않음)
+    @Query(value = "select cast(date_trunc('month', r.spend_date) as date) as \"monthStart\", " +
+            "       coalesce(sum(r.total_price), 0) as \"totalPrice\" " +
+            "from daily_spend_rollup r " +
+            "where r.owner_type = :ownerType and r.owner_id = :ownerId " +
+            "  and r.spend_date between :startDate and :endDate " +
+            "group by date_trunc('month', r.spend_date)",
+            nativeQuery = true)
+    List<MonthlyExpenseProjection> sumTotalPriceByMonth(@Param("ownerType") String ownerType,
+                                                        @Param("ownerId") Long ownerId,
+                                                        @Param("startDate") LocalDate startDate,
+                                                        @Param("endDate") LocalDate endDate);
+
+    // 집계 행이 없으면 빈 행을 만들어 두고, 이후 행 잠금으로 동시 갱신을 직렬화
+    @Modifying
+    @Query(value = "insert into daily_spend_rollup (owner_type, owner_id, spend_date, total_price, entry_count) " +
+            "values (:ownerType, :ownerId, :spendDate, 0, 0) " +
+            "on conflict (owner_type, owner_id, spend_date) do nothing",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("ownerType") String ownerType,
+                       @Param("ownerId") Long ownerId,
+                       @Param("spendDate") LocalDate spendDate);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select r from DailySpendRollup r " +
+            "where r.ownerType = :ownerType and r.ownerId = :ownerId and r.spendDate = :spendDate")
+    Optional<DailySpendRollup> findForUpdate(@Param("ownerType") DailySpendOwnerType ownerType,
+                                             @Param("ownerId") Long ownerId,
+                                             @Param("spendDate") LocalDate spendDate);
+
+    @Query(value = "select exists (select 1 from daily_spend_rollup)", nativeQuery = true)
+    boolean existsAny();
+
+    /*
+     * 집계 검증 (백필 / 야간 검증용)
+     * calendar_entries 기준으로 기대 집계(항목 수, 금액, 음료 종류별 수량)를 계산해서
+     * 실제 집계 행과 다르거나, 있어야 하는데 없거나, 없어야 하는데 있는 키만 조회
+     * 테이블을 잠그지 않으므로 조회 중 바뀐 키도 포함될 수 있음 (보정은 키별 행 잠금으로 다시 계산)
+     */
+    @Query(value = "with expected as (" +
+            "    select 'USER' as owner_type, ce.user_id as owner_id, ce.drinking_date as spend_date," +
+            "           count(*) as entry_count, coalesce(sum(ce.total_price), 0) as total_price" +
+            "    from calendar_entries ce" +
+            "    where ce.user_id is not null and ce.drinking_date is not null" +
+            "    group by ce.user_id, ce.drinking_date" +
+            "    union all" +
+            "    select 'GROUP', ce.group_id, ce.drinking_date, count(*), coalesce(sum(ce.total_price), 0)" +
+            "    from calendar_entries ce" +
+            "    where ce.group_id is not null and ce.drinking_date is not null" +
+            "    group by ce.group_id, ce.drinking_date" +
+            "), expected_drinks as (" +
+            "    select x.owner_type, x.owner_id, x.spend_date, jsonb_object_agg(x.drink_type, x.quantity) as drinks" +
+            "    from (" +
+            "        select 'USER' as owner_type, ce.user_id as owner_id, ce.drinking_date as spend_date," +
+            "               d.type as drink_type, sum(cd.quantity) as quantity" +
+            "        from calendar_entries ce" +
+            "        join calendar_drinks cd on cd.calendar_id = ce.id" +
+            "        join drinks d on d.id = cd.drink_id" +
+            "        where ce.user_id is not null and ce.drinking_date is not null and d.type is not null" +
+            "        group by ce.user_id, ce.drinking_date, d.type" +
+            "        union all" +
+            "        select 'GROUP', ce.group_id, ce.drinking_date, d.type, sum(cd.quantity)" +
+            "        from calendar_entries ce" +
+            "        join calendar_drinks cd on cd.calendar_id = ce.id" +
+            "        join drinks d on d.id = cd.drink_id" +
+            "        where ce.group_id is not null and ce.drinking_date is not null and d.type is not null" +
+            "        group by ce.group_id, ce.drinking_date, d.type" +
+            "    ) x" +
+            "    group by x.owner_type, x.owner_id, x.spend_date" +
+            "), actual_drinks as (" +
+            "    select rd.rollup_id, jsonb_object_agg(rd.drink_type, rd.quantity) as drinks" +
+            "    from daily_spend_rollup_drinks rd" +
+            "    group by rd.rollup_id" +
+            ") " +
+            "select coalesce(e.owner_type, r.owner_type) as \"ownerType\", " +
+            "       coalesce(e.owner_id, r.owner_id) as \"ownerId\", " +
+            "       coalesce(e.spend_date, r.spend_date) as \"spendDate\" " +
+            "from expected e " +
+            "left join expected_drinks ed " +
+            "  on ed.owner_type = e.owner_type and ed.owner_id = e.owner_id and ed.spend_date = e.spend_date " +
+            "full join daily_spend_rollup r " +
+            "  on r.owner_type = e.owner_type and r.owner_id = e.owner_id and r.spend_date = e.spend_date " +
+            "left join actual_drinks ad on ad.rollup_id = r.id " +
+            "where e.owner_type is null or r.id is null " +
+            "   or r.entry_count <> e.entry_count or r.total_price <> e.total_price " +
+            "   or coalesce(ad.drinks, cast('{}' as jsonb)) <> coalesce(ed.drinks, cast('{}' as jsonb))",
+            nativeQuery = true)
+    List<DailySpendRollupKeyProjection> findMismatchedKeys();
+}
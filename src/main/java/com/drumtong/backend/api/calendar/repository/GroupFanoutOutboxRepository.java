@@ -0,0 +1,59 @@
+package com.drumtong.backend.api.calendar.repository;
+
+import com.drumtong.backend.api.calendar.entity.GroupFanoutOutbox;
+import com.drumtong.backend.api.calendar.entity.GroupFanoutStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface GroupFanoutOutboxRepository extends JpaRepository<GroupFanoutOutbox, Long> {
+
+    // 처리할 작업 하나를 잠금 (다른 워커가 처리 중인 행은 건너뜀)
+    @Query(value = "select * from group_fanout_outbox " +
+            "where status = 'PENDING' and next_attempt_at <= :now " +
+            "order by id " +
+            "limit 1 " +
+            "for update skip locked",
+            nativeQuery = true)
+    Optional<GroupFanoutOutbox> claimNext(@Param("now") LocalDateTime now);
+
+    // 수정/삭제 전 남은 작업을 직접 처리하기 위해 잠금 (워커가 처리 중이면 끝날 때까지 대기)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from GroupFanoutOutbox o " +
+            "where o.groupEntryId = :groupEntryId and o.status in :statuses order by o.id")
+    List<GroupFanoutOutbox> findForUpdate(@Param("groupEntryId") Long groupEntryId,
+                                          @Param("statuses") Collection<GroupFanoutStatus> statuses);
+
+    // 재시도를 모두 소진한 작업을 다시 대기 상태로 (시도 횟수 초기화)
+    @Modifying
+    @Query("update GroupFanoutOutbox o set o.status = :pending, o.attempts = 0, o.nextAttemptAt = :now " +
+            "where o.status = :failed")
+    int requeueFailed(@Param("failed") GroupFanoutStatus failed,
+                      @Param("pending") GroupFanoutStatus pending,
+                      @Param("now") LocalDateTime now);
+
+    long countByStatus(GroupFanoutStatus status);
+
+    @Query("select min(o.createdAt) from GroupFanoutOutbox o where o.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") GroupFanoutStatus status);
+
+    // 오래된 완료 작업 정리
+    @Modifying
+    @Query(value = "delete from group_fanout_outbox_members where outbox_id in " +
+            "(select id from group_fanout_outbox where status = 'DONE' and processed_at < :before)",
+            nativeQuery = true)
+    int deleteDoneMembersBefore(@Param("before") LocalDateTime before);
+
+    @Modifying
+    @Query(value = "delete from group_fanout_outbox where status = 'DONE' and processed_at < :before",
+            nativeQuery = true)
+    int deleteDoneBefore(@Param("before") LocalDateTime before);
+}
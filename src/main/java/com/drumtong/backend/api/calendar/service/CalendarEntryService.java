@@ -3,75 +3,130 @@ package com.drumtong.backend.api.calendar.service;
 import com.drumtong.backend.api.calendar.dto.*;
 import com.drumtong.backend.api.calendar.entity.CalendarDrink;
 import com.drumtong.backend.api.calendar.entity.CalendarEntry;
+import com.drumtong.backend.api.calendar.entity.DailySpendOwnerType;
 import com.drumtong.backend.api.calendar.entity.Drink;
+import com.drumtong.backend.api.calendar.entity.PhotoStatus;
 import com.drumtong.backend.api.calendar.repository.CalendarDrinkRepository;
 import com.drumtong.backend.api.calendar.repository.CalendarEntryRepository;
 import com.drumtong.backend.api.calendar.repository.DrinkRepository;
 import com.drumtong.backend.api.groupInfo.entity.GroupInfo;
 import com.drumtong.backend.api.groupInfo.repository.GroupInfoRepository;
-import com.drumtong.backend.api.groupmember.entity.GroupMember;
-import com.drumtong.backend.api.groupmember.repository.GroupMemberRepository;
-import com.drumtong.backend.api.member.entity.Member;
+import com.drumtong.backend.api.groupmember.service.GroupMembershipIndex;
 import com.drumtong.backend.api.member.repository.MemberRepository;
+import com.drumtong.backend.common.exception.BadRequestException;
 import com.drumtong.backend.common.exception.NotFoundException;
+import com.drumtong.backend.common.response.ErrorStatus;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import java.time.DayOfWeek;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.YearMonth;
 import java.time.format.TextStyle;
 import java.time.temporal.TemporalAdjusters;
 import java.util.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @RequiredArgsConstructor
+@Slf4j
 public class CalendarEntryService {
+    public static final int DEFAULT_EXPENSE_MONTHS = 5;
+    public static final int MAX_EXPENSE_MONTHS = 60;
+    private static final int STREAM_CHUNK_SIZE = 200;
+
     private final CalendarEntryRepository calendarEntryRepository;
     private final CalendarDrinkRepository calendarDrinkRepository;
     private final DrinkRepository drinkRepository;
     private final ImageUploadService imageUploadService;
+    private final ImageCleanupService imageCleanupService;
     private final DrinkService drinkService;
     private final MemberRepository memberRepository;
     // 추가된 의존성
     private final GroupInfoRepository groupInfoRepository;
-    private final GroupMemberRepository groupMemberRepository;
+    private final GroupMembershipIndex groupMembershipIndex;
+    private final DailySpendRollupService dailySpendRollupService;
+    private final GroupFanoutService groupFanoutService;
+    private final PlatformTransactionManager transactionManager;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Value("${calendar.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${calendar.page.max-size:100}")
+    private int maxPageSize;
 
     // 캘린더 항목과 관련 음료 정보를 함께 조회하는 헬퍼 메소드
     private CalendarEntryResponseDto getEntryWithDrinks(CalendarEntry entry) {
-        CalendarEntryResponseDto responseDto = new CalendarEntryResponseDto(entry);
-
-        // 관련 음료 정보 조회
-        List<CalendarDrink> calendarDrinks = calendarDrinkRepository.findByCalendarEntry(entry);
-        List<DrinkDto> drinkDtos = calendarDrinks.stream()
-                .map(cd -> {
-                    DrinkDto dto = new DrinkDto();
-                    dto.setId(cd.getDrink().getId());
-                    dto.setName(cd.getDrink().getName());
-                    dto.setType(cd.getDrink().getType());
-                    dto.setQuantity(cd.getQuantity());
-                    return dto;
+        return getEntriesWithDrinks(List.of(entry)).get(0);
+    }
+
+    // 여러 캘린더 항목의 음료 정보를 한 번의 쿼리로 조회하여 응답 DTO 목록을 만드는 헬퍼 메소드
+    private List<CalendarEntryResponseDto> getEntriesWithDrinks(List<CalendarEntry> entries) {
+        if (entries.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> entryIds = entries.stream()
+                .map(CalendarEntry::getId)
+                .collect(Collectors.toList());
+
+        // 항목 ID별 음료 정보 묶기
+        Map<Long, List<DrinkDto>> drinksByEntryId = calendarDrinkRepository.findAllWithDrinkByCalendarEntryIds(entryIds)
+                .stream()
+                .collect(Collectors.groupingBy(
+                        cd -> cd.getCalendarEntry().getId(),
+                        Collectors.mapping(this::toDrinkDto, Collectors.toList())
+                ));
+
+        return entries.stream()
+                .map(entry -> {
+                    CalendarEntryResponseDto responseDto = new CalendarEntryResponseDto(entry);
+                    responseDto.setDrinks(drinksByEntryId.getOrDefault(entry.getId(), new ArrayList<>()));
+                    return responseDto;
                 })
                 .collect(Collectors.toList());
+    }
 
-        responseDto.setDrinks(drinkDtos);
-        return responseDto;
+    private DrinkDto toDrinkDto(CalendarDrink calendarDrink) {
+        DrinkDto dto = new DrinkDto();
+        dto.setId(calendarDrink.getDrink().getId());
+        dto.setName(calendarDrink.getDrink().getName());
+        dto.setType(calendarDrink.getDrink().getType());
+        dto.setQuantity(calendarDrink.getQuantity());
+        return dto;
     }
 
     @Transactional
-    public CalendarEntryResponseDto createEntry(CalendarEntryRequestDto dto, String imageUrl) {
+    public CalendarEntryResponseDto createEntry(CalendarEntryRequestDto dto, StagedImage image) {
         // 그룹 항목인지 확인
         boolean isGroupEntry = dto.getGroupId() != null;
+
+        // 이미지는 커밋 후 업로드되고, 그 전까지 항목의 사진 상태는 PENDING
+        imageUploadService.uploadAfterCommit(image);
+        String imageUrl = image != null ? image.getUrl() : null;
         dto.setPhotoUrl(imageUrl);
 
-        // 그룹 정보 및 멤버 수 계산
-        int memberCount = 1;
-        if (isGroupEntry) {
-            List<GroupMember> groupMembers = groupMemberRepository.findByGroupId(dto.getGroupId());
-            memberCount = Math.max(1, groupMembers.size());
-        }
+        // 그룹 멤버 조회 (트랜잭션 안에서 한 번만 읽어서 금액 분배와 멤버 항목 생성에 같이 사용)
+        List<Long> memberIds = isGroupEntry
+                ? groupMembershipIndex.findMemberIds(dto.getGroupId()).orElse(List.of())
+                : List.of();
+        int memberCount = isGroupEntry ? Math.max(1, memberIds.size()) : 1;
 
         // 그룹 항목일 경우 원본 가격 저장 (그룹의 totalPaid 계산용)
         int originalTotalPrice = dto.getTotalPrice() != null ? dto.getTotalPrice() : 0;
@@ -86,6 +141,9 @@ public class CalendarEntryService {
                 .memo(dto.getMemo())
                 .totalPrice(savePrice)
                 .photoUrl(imageUrl)
+                .photoStatus(image != null ? PhotoStatus.PENDING : null)
+                .thumbnailUrl(image != null ? image.getThumbnailUrl() : null)
+                .photoStagedAt(image != null ? LocalDateTime.now() : null)
                 .createdAt(LocalDateTime.now())
                 .groupId(dto.getGroupId())
                 .isGroupShared(false) // 원본 항목은 false로 설정
@@ -129,101 +187,43 @@ public class CalendarEntryService {
         // 그룹 관련 처리
         if (isGroupEntry && originalTotalPrice > 0) {
             // 원 작성자의 totalPaid 업데이트 (나눈 금액)
-            Member member = memberRepository.findById(dto.getUserId())
-                    .orElseThrow(() -> new RuntimeException("Member not found"));
-            member.addPaid(savePrice);
-            memberRepository.save(member);
+            if (memberRepository.addTotalPaid(List.of(dto.getUserId()), savePrice) == 0) {
+                throw new RuntimeException("Member not found");
+            }
 
             // 그룹 처리 시 원본 가격 전달 (총액 계산용)
             dto.setTotalPrice(originalTotalPrice);
-            processGroupEntry(dto, savedDrinks, savedEntry.getId()); // groupEntryId 전달
+            processGroupEntry(dto, savedEntry, memberIds);
         } else if (!isGroupEntry && originalTotalPrice > 0) {
             // 개인 항목인 경우 사용자의 totalPaid만 업데이트
-            Member member = memberRepository.findById(dto.getUserId())
-                    .orElseThrow(() -> new RuntimeException("Member not found"));
-            member.addPaid(originalTotalPrice);
-            memberRepository.save(member);
+            if (memberRepository.addTotalPaid(List.of(dto.getUserId()), originalTotalPrice) == 0) {
+                throw new RuntimeException("Member not found");
+            }
         }
 
+        // 일별 지출 집계 갱신 (작성자, 그룹 / 그룹 멤버 항목은 GroupFanoutWorker가 갱신)
+        dailySpendRollupService.refresh(dailySpendRollupService.keysOf(savedEntry));
+
         // Return complete response with drinks
         return getEntryWithDrinks(savedEntry);
     }
 
-    private void processGroupEntry(CalendarEntryRequestDto dto, List<CalendarDrink> savedDrinks, Long groupEntryId) {
-        // 그룹 정보 조회
-        GroupInfo groupInfo = groupInfoRepository.findById(dto.getGroupId())
-                .orElseThrow(() -> new NotFoundException("Group not found"));
-
-        // 그룹 멤버 목록 조회
-        List<GroupMember> groupMembers = groupMemberRepository.findByGroupId(dto.getGroupId());
-        if (groupMembers.isEmpty()) {
+    private void processGroupEntry(CalendarEntryRequestDto dto, CalendarEntry groupEntry, List<Long> memberIds) {
+        if (memberIds.isEmpty()) {
             throw new NotFoundException("No members in this group");
         }
 
-        int memberCount = groupMembers.size();
         int totalPrice = dto.getTotalPrice() != null ? dto.getTotalPrice() : 0;
-        int pricePerMember = totalPrice / memberCount;
 
         // 그룹의 totalPaid 업데이트 (전체 금액)
-        groupInfo.setTotalPaid(groupInfo.getTotalPaid() + totalPrice);
-        groupInfoRepository.save(groupInfo);
-        System.out.println("Updated group totalPaid: " + groupInfo.getTotalPaid());
-
-        // 각 멤버별 처리
-        for (GroupMember groupMember : groupMembers) {
-            // 작성자 본인은 이미 처리했으므로 건너뜀
-            if (groupMember.getMemberId().equals(dto.getUserId())) {
-                continue;
-            }
-
-            // 멤버 정보 조회
-            Member member = memberRepository.findById(groupMember.getMemberId())
-                    .orElseThrow(() -> new NotFoundException("Member not found: " + groupMember.getMemberId()));
-
-            // 멤버의 totalPaid 업데이트 (나눈 금액)
-            member.addPaid(pricePerMember);
-            memberRepository.save(member);
-            System.out.println("Updated member totalPaid: " + member.getId() + " with: " + pricePerMember);
-
-            // 멤버별 캘린더 항목 생성 (각자의 몫)
-            createMemberCalendarEntry(member, dto, savedDrinks, memberCount, groupEntryId);
+        if (groupInfoRepository.addTotalPaid(dto.getGroupId(), totalPrice) == 0) {
+            throw new NotFoundException("Group not found");
         }
-    }
+        log.debug("Added {} to group {} totalPaid", totalPrice, dto.getGroupId());
+        groupInfoRepository.touchLastActivity(dto.getGroupId(), LocalDateTime.now());
 
-    private void createMemberCalendarEntry(Member member, CalendarEntryRequestDto dto,
-                                           List<CalendarDrink> savedDrinks, int memberCount, Long groupEntryId) {
-        // 멤버별 캘린더 항목 생성
-        CalendarEntry memberEntry = CalendarEntry.builder()
-                .userId(member.getId())
-                .groupId(dto.getGroupId())
-                .groupEntryId(groupEntryId)  // 원본 항목 ID로 설정
-                .drinkingDate(dto.getDrinkingDate())
-                .memo(dto.getMemo())
-                .totalPrice(dto.getTotalPrice() / memberCount)
-                .photoUrl(dto.getPhotoUrl())
-                .createdAt(LocalDateTime.now())
-                .isGroupShared(true)
-                .build();
-
-        CalendarEntry savedMemberEntry = calendarEntryRepository.save(memberEntry);
-        System.out.println("Created member entry: " + savedMemberEntry.getId() +
-                " for member: " + member.getId() +
-                " with price: " + (dto.getTotalPrice() / memberCount) +
-                " and groupEntryId: " + groupEntryId);
-
-        // 음료 수량도 분할하여 저장
-        for (CalendarDrink originalDrink : savedDrinks) {
-            // 정수 나누기 처리 (최소 1)
-            int sharedQuantity = originalDrink.getQuantity();
-
-            CalendarDrink memberDrink = CalendarDrink.builder()
-                    .calendarEntry(memberEntry)
-                    .drink(originalDrink.getDrink())
-                    .quantity(sharedQuantity)
-                    .build();
-
-            calendarDrinkRepository.save(memberDrink);
-        }
+        // 멤버별 항목 생성은 outbox에 기록하고 GroupFanoutWorker가 처리 (작성자 본인은 제외)
+        groupFanoutService.enqueue(groupEntry, memberIds);
     }
 
     @Transactional
@@ -238,15 +238,20 @@ public class CalendarEntryService {
         Long groupEntryId = entry.getGroupEntryId();
         boolean isGroupEntry = groupId != null;
 
+        // 아직 생성되지 않은 멤버 항목이 있으면 먼저 생성 (금액 차감이 맞도록)
+        if (isGroupEntry) {
+            groupFanoutService.completePending(groupEntryId);
+        }
+
+        // 삭제 전 일별 지출 집계 키 저장
+        Set<DailySpendRollupKey> rollupKeys = dailySpendRollupService.keysOf(entry);
+
         // 삭제할 항목이 그룹 항목인 경우, 관련된 모든 항목 찾기
         List<CalendarEntry> relatedEntries = new ArrayList<>();
         if (isGroupEntry && groupEntryId != null) {
             // 동일한 groupEntryId를 가진 항목들 찾기
             relatedEntries = calendarEntryRepository.findByGroupEntryId(groupEntryId);
-
-            // 그룹의 totalPaid 업데이트
-            GroupInfo groupInfo = groupInfoRepository.findById(groupId)
-                    .orElseThrow(() -> new NotFoundException("Group not found"));
+            rollupKeys.addAll(dailySpendRollupService.keysOf(relatedEntries));
 
             // 전체 금액 계산 (모든 멤버의 금액 합산)
             int totalGroupPrice = 0;
@@ -256,58 +261,72 @@ public class CalendarEntryService {
                 }
             }
 
-            int updatedGroupTotal = Math.max(0, groupInfo.getTotalPaid() - totalGroupPrice);
-            groupInfo.setTotalPaid(updatedGroupTotal);
-            groupInfoRepository.save(groupInfo);
-            System.out.println("Updated group totalPaid on delete: " + updatedGroupTotal);
+            // 그룹의 totalPaid 업데이트 (0 미만으로 내려가지 않음)
+            if (groupInfoRepository.addTotalPaid(groupId, -totalGroupPrice) == 0) {
+                throw new NotFoundException("Group not found");
+            }
+            log.debug("Subtracted {} from group {} totalPaid on delete", totalGroupPrice, groupId);
         }
 
-        // 사용자의 totalPaid 업데이트
-        updateMemberTotalPaidOnDelete(userId, totalPrice);
+        // 사용자의 totalPaid 차감 (관련 멤버 항목도 아래에서 함께 모아서 반영)
+        Map<Long, Integer> paidDeltas = new HashMap<>();
+        paidDeltas.merge(userId, -totalPrice, Integer::sum);
 
         // Delete associated drinks first
         calendarDrinkRepository.deleteByCalendarEntry(entry);
 
-        // Delete image if exists
-        if (entry.getPhotoUrl() != null && !entry.getPhotoUrl().isEmpty()) {
-            imageUploadService.delete(entry.getPhotoUrl());
-        }
-
         // Delete the entry
         calendarEntryRepository.delete(entry);
+        List<CalendarEntry> deletedEntries = new ArrayList<>();
+        deletedEntries.add(entry);
         System.out.println("Deleted entry: " + id);
 
         // 그룹 항목인 경우 관련된 다른 항목들도 삭제
         if (isGroupEntry && !relatedEntries.isEmpty() && !entry.getIsGroupShared()) {
             for (CalendarEntry relatedEntry : relatedEntries) {
                 if (!relatedEntry.getId().equals(id)) {
-                    // 멤버의 totalPaid 업데이트
-                    updateMemberTotalPaidOnDelete(relatedEntry.getUserId(),
-                            relatedEntry.getTotalPrice() != null ? relatedEntry.getTotalPrice() : 0);
+                    // 멤버의 totalPaid 차감
+                    paidDeltas.merge(relatedEntry.getUserId(),
+                            -(relatedEntry.getTotalPrice() != null ? relatedEntry.getTotalPrice() : 0), Integer::sum);
 
                     // 관련 음료 정보 삭제
                     calendarDrinkRepository.deleteByCalendarEntry(relatedEntry);
 
                     // 항목 삭제
                     calendarEntryRepository.delete(relatedEntry);
+                    deletedEntries.add(relatedEntry);
                     System.out.println("Deleted related entry: " + relatedEntry.getId());
                 }
             }
         }
+
+        addMembersPaid(paidDeltas);
+
+        // 사진은 커밋 후, 남은 항목(다른 그룹 멤버 복사본 등)이 쓰지 않을 때만 삭제
+        imageCleanupService.releaseAfterCommit(deletedEntries);
+
+        // 일별 지출 집계 갱신
+        dailySpendRollupService.refresh(rollupKeys);
     }
 
     /**
-     * 개인 항목 삭제 시 해당 멤버의 totalPaid 업데이트
+     * 멤버별 totalPaid 증감을 같은 금액끼리 묶어 UPDATE 문으로 반영 (멤버 엔티티를 조회하지 않음)
+     * 없는 멤버는 무시하며, 실제로 반영된 멤버 수를 반환
      */
-    private void updateMemberTotalPaidOnDelete(Long userId, int totalPrice) {
-        Member member = memberRepository.findById(userId)
-                .orElse(null);
-
-        if (member != null) {
-            // Member 클래스는 setTotalPaid 대신 addPaid를 사용
-            member.addPaid(-totalPrice); // 음수값으로 전달하여 차감
-            memberRepository.save(member);
+    private int addMembersPaid(Map<Long, Integer> paidDeltas) {
+        Map<Integer, List<Long>> memberIdsByAmount = new TreeMap<>();
+        paidDeltas.forEach((memberId, amount) -> {
+            if (memberId != null && amount != 0) {
+                memberIdsByAmount.computeIfAbsent(amount, key -> new ArrayList<>()).add(memberId);
+            }
+        });
+        int updated = 0;
+        for (Map.Entry<Integer, List<Long>> group : memberIdsByAmount.entrySet()) {
+            List<Long> memberIds = group.getValue();
+            Collections.sort(memberIds);
+            updated += memberRepository.addTotalPaid(memberIds, group.getKey());
         }
+        return updated;
     }
 
     public CalendarEntryResponseDto getEntry(Long id) {
@@ -320,50 +339,159 @@ public class CalendarEntryService {
     // Get entries by user
     public List<CalendarEntryResponseDto> listEntriesByUser(Long userId) {
         List<CalendarEntry> entries = calendarEntryRepository.findByUserId(userId);
-        return entries.stream()
-                .map(this::getEntryWithDrinks)
-                .collect(Collectors.toList());
+        return getEntriesWithDrinks(entries);
     }
 
     // 그룹별 항목 조회 메소드
     public List<CalendarEntryResponseDto> getEntriesByGroupId(Long groupId) {
         List<CalendarEntry> entries = calendarEntryRepository.findByGroupId(groupId);
-        return entries.stream()
-                .map(this::getEntryWithDrinks)
-                .collect(Collectors.toList());
+        return getEntriesWithDrinks(entries);
     }
 
     // 사용자의 그룹 공유 항목 조회
     public List<CalendarEntryResponseDto> getGroupSharedEntriesByUserId(Long userId) {
         List<CalendarEntry> entries = calendarEntryRepository.findByUserIdAndIsGroupSharedTrue(userId);
-        return entries.stream()
-                .map(this::getEntryWithDrinks)
-                .collect(Collectors.toList());
+        return getEntriesWithDrinks(entries);
+    }
+
+    // 사용자 항목 페이지 조회 (최신 날짜순)
+    @Transactional(readOnly = true)
+    public CalendarEntryPageDto listEntriesByUser(Long userId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        CalendarEntryCursor after = CalendarEntryCursor.decode(cursor);
+        return toPage(calendarEntryRepository.findPageByUserId(
+                userId, after.getDrinkingDate(), after.getId(), PageRequest.of(0, pageSize + 1)), pageSize);
+    }
+
+    // 그룹 항목 페이지 조회 (최신 날짜순)
+    @Transactional(readOnly = true)
+    public CalendarEntryPageDto getEntriesByGroupId(Long groupId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        CalendarEntryCursor after = CalendarEntryCursor.decode(cursor);
+        return toPage(calendarEntryRepository.findPageByGroupId(
+                groupId, after.getDrinkingDate(), after.getId(), PageRequest.of(0, pageSize + 1)), pageSize);
+    }
+
+    // 사용자의 그룹 공유 항목 페이지 조회 (최신 날짜순)
+    @Transactional(readOnly = true)
+    public CalendarEntryPageDto getGroupSharedEntriesByUserId(Long userId, String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        CalendarEntryCursor after = CalendarEntryCursor.decode(cursor);
+        return toPage(calendarEntryRepository.findGroupSharedPageByUserId(
+                userId, after.getDrinkingDate(), after.getId(), PageRequest.of(0, pageSize + 1)), pageSize);
+    }
+
+    // 페이지 크기 확인 (없으면 기본값, 최대값을 넘으면 최대값으로 제한)
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new BadRequestException(ErrorStatus.INVALID_PAGE_SIZE_EXCEPTION.getMessage());
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    // 한 건 더 조회한 결과로 다음 페이지 여부 판단
+    private CalendarEntryPageDto toPage(List<CalendarEntry> rows, int pageSize) {
+        boolean hasNext = rows.size() > pageSize;
+        List<CalendarEntry> entries = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? CalendarEntryCursor.of(entries.get(entries.size() - 1)).encode() : null;
+        return new CalendarEntryPageDto(getEntriesWithDrinks(entries), nextCursor, hasNext);
+    }
+
+    /*
+     * NDJSON 스트리밍 조회
+     * JDBC 커서로 읽은 항목을 STREAM_CHUNK_SIZE 단위로 음료와 함께 변환해서 바로 출력하고,
+     * 출력한 항목은 영속성 컨텍스트에서 비워서 전체 목록을 메모리에 올리지 않음
+     */
+    public void streamEntriesByUser(Long userId, OutputStream out) {
+        streamEntries(() -> calendarEntryRepository.streamByUserId(userId), out);
+    }
+
+    public void streamEntriesByGroupId(Long groupId, OutputStream out) {
+        streamEntries(() -> calendarEntryRepository.streamByGroupId(groupId), out);
+    }
+
+    public void streamGroupSharedEntriesByUserId(Long userId, OutputStream out) {
+        streamEntries(() -> calendarEntryRepository.streamGroupSharedByUserId(userId), out);
+    }
+
+    private void streamEntries(Supplier<Stream<CalendarEntry>> query, OutputStream out) {
+        TransactionTemplate readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<CalendarEntry> entries = query.get()) {
+                List<CalendarEntry> chunk = new ArrayList<>(STREAM_CHUNK_SIZE);
+                Iterator<CalendarEntry> iterator = entries.iterator();
+                while (iterator.hasNext()) {
+                    chunk.add(iterator.next());
+                    if (chunk.size() == STREAM_CHUNK_SIZE) {
+                        writeChunk(chunk, out);
+                        chunk.clear();
+                    }
+                }
+                if (!chunk.isEmpty()) {
+                    writeChunk(chunk, out);
+                }
+            }
+        });
+    }
+
+    private void writeChunk(List<CalendarEntry> chunk, OutputStream out) {
+        try {
+            for (CalendarEntryResponseDto dto : getEntriesWithDrinks(chunk)) {
+                out.write(objectMapper.writeValueAsBytes(dto));
+                out.write('\n');
+            }
+            out.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        entityManager.clear();
     }
 
     // 최근 5개월 지출 데이터 조회 메소드
     public List<MonthlyExpenseDto> getRecentMonthsExpense(Long userId, int year, int month) {
-        List<MonthlyExpenseDto> result = new ArrayList<>();
+        return getRecentMonthsExpense(userId, year, month, DEFAULT_EXPENSE_MONTHS);
+    }
 
-        // 요청받은 연월로부터 5개월치 데이터 (요청 월 포함 이전 4개월)
-        for (int i = 4; i >= 0; i--) {
-            // i개월 이전 날짜 계산
-            YearMonth targetYearMonth = YearMonth.of(year, month).minusMonths(i);
-            int targetYear = targetYearMonth.getYear();
-            int targetMonth = targetYearMonth.getMonthValue();
+    // 요청 월 포함 최근 N개월 지출 데이터 조회 (한 번의 집계 쿼리)
+    public List<MonthlyExpenseDto> getRecentMonthsExpense(Long userId, int year, int month, int months) {
+        YearMonth endMonth = YearMonth.of(year, month);
+        YearMonth startMonth = getExpenseStartMonth(endMonth, months);
 
-            // 해당 월 지출 금액 조회
-            int monthlyTotal = getMonthlyTotalPrice(userId, targetYear, targetMonth);
+        List<MonthlyExpenseProjection> monthlyTotals = dailySpendRollupService.sumTotalPriceByMonth(
+                DailySpendOwnerType.USER, userId, startMonth.atDay(1), endMonth.atEndOfMonth());
 
-            MonthlyExpenseDto dto = MonthlyExpenseDto.builder()
-                    .year(targetYear)
-                    .month(targetMonth)
-                    .totalPrice(monthlyTotal)
-                    .build();
+        return toMonthlyExpenses(monthlyTotals, startMonth, endMonth);
+    }
 
-            result.add(dto);
+    private YearMonth getExpenseStartMonth(YearMonth endMonth, int months) {
+        if (months < 1 || months > MAX_EXPENSE_MONTHS) {
+            throw new BadRequestException(ErrorStatus.INVALID_EXPENSE_MONTH_RANGE_EXCEPTION.getMessage());
+        }
+        return endMonth.minusMonths(months - 1);
+    }
+
+    /**
+     * 월별 합계를 시작 월부터 종료 월까지 채워서 반환 (지출이 없는 월은 0원)
+     */
+    private List<MonthlyExpenseDto> toMonthlyExpenses(List<MonthlyExpenseProjection> monthlyTotals,
+                                                      YearMonth startMonth, YearMonth endMonth) {
+        Map<YearMonth, Integer> totalsByMonth = new HashMap<>();
+        for (MonthlyExpenseProjection monthlyTotal : monthlyTotals) {
+            totalsByMonth.put(YearMonth.from(monthlyTotal.getMonthStart()), monthlyTotal.getTotalPrice().intValue());
         }
 
+        List<MonthlyExpenseDto> result = new ArrayList<>();
+        for (YearMonth target = startMonth; !target.isAfter(endMonth); target = target.plusMonths(1)) {
+            result.add(MonthlyExpenseDto.builder()
+                    .year(target.getYear())
+                    .month(target.getMonthValue())
+                    .totalPrice(totalsByMonth.getOrDefault(target, 0))
+                    .build());
+        }
         return result;
     }
 
@@ -382,22 +510,15 @@ public class CalendarEntryService {
             friday = today;
         }
 
-        // 월~금 사이의 지출 조회
-        List<CalendarEntry> entries = calendarEntryRepository.findByUserIdAndDrinkingDateBetween(
-                userId, monday, friday);
+        // 월~금 사이의 일자별 지출 조회 (일별 지출 집계 사용)
+        Map<LocalDate, Integer> dailyExpenses = dailySpendRollupService.getDailyTotals(
+                DailySpendOwnerType.USER, userId, monday, friday);
 
         // 총 금액 계산
-        int totalPrice = entries.stream()
-                .mapToInt(entry -> entry.getTotalPrice() != null ? entry.getTotalPrice() : 0)
+        int totalPrice = dailyExpenses.values().stream()
+                .mapToInt(Integer::intValue)
                 .sum();
 
-        // 일자별 지출 집계
-        Map<LocalDate, Integer> dailyExpenses = entries.stream()
-                .collect(Collectors.groupingBy(
-                        CalendarEntry::getDrinkingDate,
-                        Collectors.summingInt(entry -> entry.getTotalPrice() != null ? entry.getTotalPrice() : 0)
-                ));
-
         // 결과 생성
         Map<String, Object> result = new LinkedHashMap<>();  // 순서 보존을 위해 LinkedHashMap 사용
         result.put("startDate", monday.toString());
@@ -416,58 +537,37 @@ public class CalendarEntryService {
         return result;
     }
 
-    // getMonthlyCalendarSummary 메소드 내부의 코드 수정
+    // 한 달 동안의 일자별 캘린더 요약 조회 (집계는 DB에서 수행)
     public List<CalendarSummaryDto> getMonthlyCalendarSummary(Long userId, int year, int month) {
         YearMonth yearMonth = YearMonth.of(year, month);
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        List<CalendarEntry> entries = calendarEntryRepository.findByUserIdAndDrinkingDateBetween(
-                userId, startDate, endDate);
-
-        // Group entries by date
-        Map<LocalDate, List<CalendarEntry>> entriesByDate = entries.stream()
-                .collect(Collectors.groupingBy(CalendarEntry::getDrinkingDate));
-
-        List<CalendarSummaryDto> summaryList = new ArrayList<>();
-
-        // Generate summary for each day in the month
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            List<CalendarEntry> dateEntries = entriesByDate.getOrDefault(date, Collections.emptyList());
-
-            if (!dateEntries.isEmpty()) {
-                // Count drinks for this date
-                Map<String, Integer> drinkCounts = new HashMap<>();
-
-                // 같은 날짜의 totalPrice 합산
-                int totalPrice = dateEntries.stream()
-                        .mapToInt(entry -> entry.getTotalPrice() != null ? entry.getTotalPrice() : 0)
-                        .sum();
-
-                for (CalendarEntry entry : dateEntries) {
-                    List<CalendarDrink> calendarDrinks = calendarDrinkRepository.findByCalendarEntry(entry);
-
-                    for (CalendarDrink cd : calendarDrinks) {
-                        String drinkType = cd.getDrink().getType();
-                        int quantity = cd.getQuantity();
-
-                        drinkCounts.put(drinkType,
-                                drinkCounts.getOrDefault(drinkType, 0) + quantity);
-                    }
-                }
-
-                CalendarSummaryDto summary = CalendarSummaryDto.builder()
-                        .date(date)
-                        .totalEntries(dateEntries.size())
-                        .drinkCounts(drinkCounts)
-                        .totalPrice(totalPrice) // 합산된 총 가격 설정
-                        .build();
+        return toCalendarSummaries(calendarEntryRepository.summarizeDailyByUserId(userId, startDate, endDate));
+    }
 
-                summaryList.add(summary);
+    /**
+     * 일자별 집계 결과(날짜, 음료 종류별 1행)를 날짜 순서대로 CalendarSummaryDto 목록으로 변환
+     */
+    private List<CalendarSummaryDto> toCalendarSummaries(List<CalendarDailySummaryProjection> rows) {
+        Map<LocalDate, CalendarSummaryDto> summariesByDate = new LinkedHashMap<>();
+
+        for (CalendarDailySummaryProjection row : rows) {
+            CalendarSummaryDto summary = summariesByDate.computeIfAbsent(row.getDrinkingDate(),
+                    date -> CalendarSummaryDto.builder()
+                            .date(date)
+                            .totalEntries(row.getEntryCount().intValue())
+                            .totalPrice(row.getPriceSum().intValue())
+                            .drinkCounts(new HashMap<>())
+                            .build());
+
+            // 음료가 없는 날짜는 drinkType이 null로 조회됨
+            if (row.getDrinkType() != null) {
+                summary.getDrinkCounts().merge(row.getDrinkType(), row.getQuantitySum().intValue(), Integer::sum);
             }
         }
 
-        return summaryList;
+        return new ArrayList<>(summariesByDate.values());
     }
 
     // 한 달 동안 사용한 금액 조회
@@ -476,12 +576,7 @@ public class CalendarEntryService {
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        List<CalendarEntry> entries = calendarEntryRepository.findByUserIdAndDrinkingDateBetween(
-                userId, startDate, endDate);
-
-        return entries.stream()
-                .mapToInt(entry -> entry.getTotalPrice() != null ? entry.getTotalPrice() : 0)
-                .sum();
+        return dailySpendRollupService.sumTotalPrice(DailySpendOwnerType.USER, userId, startDate, endDate);
     }
 
     // 특정 주(week)의 사용 금액 조회
@@ -508,13 +603,9 @@ public class CalendarEntryService {
             endDateOfWeek = yearMonth.atEndOfMonth();
         }
 
-        // 해당 주의 데이터 조회
-        List<CalendarEntry> entries = calendarEntryRepository.findByUserIdAndDrinkingDateBetween(
-                userId, startDateOfWeek, endDateOfWeek);
-
-        return entries.stream()
-                .mapToInt(entry -> entry.getTotalPrice() != null ? entry.getTotalPrice() : 0)
-                .sum();
+        // 해당 주의 지출 합계 조회 (일별 지출 집계 사용)
+        return dailySpendRollupService.sumTotalPrice(
+                DailySpendOwnerType.USER, userId, startDateOfWeek, endDateOfWeek);
     }
 
     // 그룹별 주간 지출 조회 메소드 수정
@@ -545,13 +636,9 @@ public class CalendarEntryService {
             endDateOfWeek = yearMonth.atEndOfMonth();
         }
 
-        // 해당 주의 데이터 조회
-        List<CalendarEntry> entries = calendarEntryRepository.findByGroupIdAndDrinkingDateBetween(
-                groupId, startDateOfWeek, endDateOfWeek);
-
-        int totalPrice = entries.stream()
-                .mapToInt(entry -> entry.getTotalPrice() != null ? entry.getTotalPrice() : 0)
-                .sum();
+        // 해당 주의 지출 합계 조회 (일별 지출 집계 사용)
+        int totalPrice = dailySpendRollupService.sumTotalPrice(
+                DailySpendOwnerType.GROUP, groupId, startDateOfWeek, endDateOfWeek);
 
         // 결과 생성
         Map<String, Object> result = new HashMap<>();
@@ -564,58 +651,13 @@ public class CalendarEntryService {
         return result;
     }
 
-    // 그룹별 월간 캘린더 요약 조회
+    // 그룹별 월간 캘린더 요약 조회 (집계는 DB에서 수행)
     public List<CalendarSummaryDto> getGroupMonthlyCalendarSummary(Long groupId, int year, int month) {
         YearMonth yearMonth = YearMonth.of(year, month);
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        List<CalendarEntry> entries = calendarEntryRepository.findByGroupIdAndDrinkingDateBetween(
-                groupId, startDate, endDate);
-
-        // Group entries by date
-        Map<LocalDate, List<CalendarEntry>> entriesByDate = entries.stream()
-                .collect(Collectors.groupingBy(CalendarEntry::getDrinkingDate));
-
-        List<CalendarSummaryDto> summaryList = new ArrayList<>();
-
-        // Generate summary for each day in the month
-        for (LocalDate date = startDate; !date.isAfter(endDate); date = date.plusDays(1)) {
-            List<CalendarEntry> dateEntries = entriesByDate.getOrDefault(date, Collections.emptyList());
-
-            if (!dateEntries.isEmpty()) {
-                // Count drinks for this date
-                Map<String, Integer> drinkCounts = new HashMap<>();
-
-                // 같은 날짜의 totalPrice 합산
-                int totalPrice = dateEntries.stream()
-                        .mapToInt(entry -> entry.getTotalPrice() != null ? entry.getTotalPrice() : 0)
-                        .sum();
-
-                for (CalendarEntry entry : dateEntries) {
-                    List<CalendarDrink> calendarDrinks = calendarDrinkRepository.findByCalendarEntry(entry);
-
-                    for (CalendarDrink cd : calendarDrinks) {
-                        String drinkType = cd.getDrink().getType();
-                        int quantity = cd.getQuantity();
-
-                        drinkCounts.put(drinkType,
-                                drinkCounts.getOrDefault(drinkType, 0) + quantity);
-                    }
-                }
-
-                CalendarSummaryDto summary = CalendarSummaryDto.builder()
-                        .date(date)
-                        .totalEntries(dateEntries.size())
-                        .drinkCounts(drinkCounts)
-                        .totalPrice(totalPrice)
-                        .build();
-
-                summaryList.add(summary);
-            }
-        }
-
-        return summaryList;
+        return toCalendarSummaries(calendarEntryRepository.summarizeDailyByGroupId(groupId, startDate, endDate));
     }
 
     // 그룹별 월간 지출 금액 조회
@@ -624,38 +666,23 @@ public class CalendarEntryService {
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        List<CalendarEntry> entries = calendarEntryRepository.findByGroupIdAndDrinkingDateBetween(
-                groupId, startDate, endDate);
-
-        return entries.stream()
-                .mapToInt(entry -> entry.getTotalPrice() != null ? entry.getTotalPrice() : 0)
-                .sum();
+        return dailySpendRollupService.sumTotalPrice(DailySpendOwnerType.GROUP, groupId, startDate, endDate);
     }
 
     // 그룹별 최근 5개월 지출 데이터 조회
     public List<MonthlyExpenseDto> getGroupRecentMonthsExpense(Long groupId, int year, int month) {
-        List<MonthlyExpenseDto> result = new ArrayList<>();
-
-        // 요청받은 연월로부터 5개월치 데이터 (요청 월 포함 이전 4개월)
-        for (int i = 4; i >= 0; i--) {
-            // i개월 이전 날짜 계산
-            YearMonth targetYearMonth = YearMonth.of(year, month).minusMonths(i);
-            int targetYear = targetYearMonth.getYear();
-            int targetMonth = targetYearMonth.getMonthValue();
-
-            // 해당 월 지출 금액 조회
-            int monthlyTotal = getGroupMonthlyTotalPrice(groupId, targetYear, targetMonth);
+        return getGroupRecentMonthsExpense(groupId, year, month, DEFAULT_EXPENSE_MONTHS);
+    }
 
-            MonthlyExpenseDto dto = MonthlyExpenseDto.builder()
-                    .year(targetYear)
-                    .month(targetMonth)
-                    .totalPrice(monthlyTotal)
-                    .build();
+    // 그룹별 요청 월 포함 최근 N개월 지출 데이터 조회 (한 번의 집계 쿼리)
+    public List<MonthlyExpenseDto> getGroupRecentMonthsExpense(Long groupId, int year, int month, int months) {
+        YearMonth endMonth = YearMonth.of(year, month);
+        YearMonth startMonth = getExpenseStartMonth(endMonth, months);
 
-            result.add(dto);
-        }
+        List<MonthlyExpenseProjection> monthlyTotals = dailySpendRollupService.sumTotalPriceByMonth(
+                DailySpendOwnerType.GROUP, groupId, startMonth.atDay(1), endMonth.atEndOfMonth());
 
-        return result;
+        return toMonthlyExpenses(monthlyTotals, startMonth, endMonth);
     }
 
     // 그룹별 이번주 월~금 지출 조회
@@ -673,22 +700,15 @@ public class CalendarEntryService {
             friday = today;
         }
 
-        // 월~금 사이의 지출 조회
-        List<CalendarEntry> entries = calendarEntryRepository.findByGroupIdAndDrinkingDateBetween(
-                groupId, monday, friday);
+        // 월~금 사이의 일자별 지출 조회 (일별 지출 집계 사용)
+        Map<LocalDate, Integer> dailyExpenses = dailySpendRollupService.getDailyTotals(
+                DailySpendOwnerType.GROUP, groupId, monday, friday);
 
         // 총 금액 계산
-        int totalPrice = entries.stream()
-                .mapToInt(entry -> entry.getTotalPrice() != null ? entry.getTotalPrice() : 0)
+        int totalPrice = dailyExpenses.values().stream()
+                .mapToInt(Integer::intValue)
                 .sum();
 
-        // 일자별 지출 집계
-        Map<LocalDate, Integer> dailyExpenses = entries.stream()
-                .collect(Collectors.groupingBy(
-                        CalendarEntry::getDrinkingDate,
-                        Collectors.summingInt(entry -> entry.getTotalPrice() != null ? entry.getTotalPrice() : 0)
-                ));
-
         // 결과 생성
         Map<String, Object> result = new LinkedHashMap<>();
         result.put("startDate", monday.toString());
@@ -708,7 +728,11 @@ public class CalendarEntryService {
     }
 
     @Transactional
-    public CalendarEntryResponseDto updateEntry(Long id, CalendarEntryRequestDto dto, String imageUrl) {
+    public CalendarEntryResponseDto updateEntry(Long id, CalendarEntryRequestDto dto, StagedImage image) {
+        // 새 이미지는 커밋 후 업로드
+        imageUploadService.uploadAfterCommit(image);
+        String imageUrl = image != null ? image.getUrl() : null;
+
         // 1. 기존 항목 조회
         CalendarEntry existingEntry = calendarEntryRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("Entry not found"));
@@ -720,6 +744,11 @@ public class CalendarEntryService {
         LocalDate originalDate = existingEntry.getDrinkingDate();
         Long groupEntryId = existingEntry.getGroupEntryId();
 
+        // 아직 생성되지 않은 멤버 항목이 있으면 먼저 생성
+        if (existingEntry.getGroupId() != null) {
+            groupFanoutService.completePending(groupEntryId);
+        }
+
         // groupEntryId가 없는 경우 (이전 데이터) 자신의 ID로 설정
         if (existingEntry.getGroupId() != null && groupEntryId == null) {
             groupEntryId = existingEntry.getId();
@@ -727,13 +756,23 @@ public class CalendarEntryService {
             calendarEntryRepository.save(existingEntry);
         }
 
+        // 수정 전 일별 지출 집계 키 저장 (날짜/그룹이 바뀌는 경우 기존 집계도 갱신해야 함)
+        Set<DailySpendRollupKey> rollupKeys = dailySpendRollupService.keysOf(existingEntry);
+        if (groupEntryId != null) {
+            rollupKeys.addAll(dailySpendRollupService.keysOf(calendarEntryRepository.findByGroupEntryId(groupEntryId)));
+        }
+
         // 3. 이미지 처리
         String updatedImageUrl = imageUrl;
+        PhotoStatus updatedPhotoStatus = PhotoStatus.PENDING;
+        String updatedThumbnailUrl = image != null ? image.getThumbnailUrl() : null;
         if (updatedImageUrl == null) {
             updatedImageUrl = existingEntry.getPhotoUrl(); // 새 이미지가 없으면 기존 이미지 유지
+            updatedPhotoStatus = existingEntry.getPhotoStatus();
+            updatedThumbnailUrl = existingEntry.getThumbnailUrl();
         } else if (existingEntry.getPhotoUrl() != null && !existingEntry.getPhotoUrl().equals(updatedImageUrl)) {
-            // 기존 이미지가 있고 새 이미지와 다르면 기존 이미지 삭제
-            imageUploadService.delete(existingEntry.getPhotoUrl());
+            // 기존 이미지가 있고 새 이미지와 다르면 커밋 후 기존 이미지 삭제
+            imageCleanupService.releaseAfterCommit(existingEntry.getPhotoUrl(), existingEntry.getThumbnailUrl());
         }
 
         // 4. 그룹 변경 여부 확인
@@ -750,21 +789,32 @@ public class CalendarEntryService {
         if (groupChanged) {
             // 그룹 변경이 있는 경우
             System.out.println("Group changed from " + originalGroupId + " to " + dto.getGroupId());
-            handleGroupChangeComplete(existingEntry, originalGroupId, dto, updatedImageUrl, originalTotalPrice);
+            handleGroupChangeComplete(existingEntry, originalGroupId, dto,
+                    updatedImageUrl, updatedPhotoStatus, updatedThumbnailUrl, originalTotalPrice);
         } else if (hadGroupBefore && hasGroupNow) {
             // 그룹 유지하며 내용만 수정하는 경우
             System.out.println("Group remained same: " + originalGroupId + ", updating content");
-            handleGroupContentUpdateComplete(existingEntry, dto, updatedImageUrl, originalTotalPrice, newTotalPrice);
+            handleGroupContentUpdateComplete(existingEntry, dto,
+                    updatedImageUrl, updatedPhotoStatus, updatedThumbnailUrl, originalTotalPrice, newTotalPrice);
         } else {
             // 개인 항목 수정 (그룹과 무관)
             System.out.println("Personal entry update");
-            handlePersonalEntryUpdateComplete(existingEntry, dto, updatedImageUrl, originalTotalPrice, newTotalPrice);
+            handlePersonalEntryUpdateComplete(existingEntry, dto,
+                    updatedImageUrl, updatedPhotoStatus, updatedThumbnailUrl, originalTotalPrice, newTotalPrice);
         }
 
         // 7. 저장 확인
         CalendarEntry savedEntry = calendarEntryRepository.save(existingEntry);
         System.out.println("Final save completed for entry: " + savedEntry.getId());
 
+        // 8. 수정 후 일별 지출 집계 갱신
+        rollupKeys.addAll(dailySpendRollupService.keysOf(savedEntry));
+        if (savedEntry.getGroupEntryId() != null) {
+            rollupKeys.addAll(dailySpendRollupService.keysOf(
+                    calendarEntryRepository.findByGroupEntryId(savedEntry.getGroupEntryId())));
+        }
+        dailySpendRollupService.refresh(rollupKeys);
+
         return getEntryWithDrinks(savedEntry);
     }
 
@@ -773,7 +823,11 @@ public class CalendarEntryService {
      * 완전히 새로 작성된 메소드
      */
     private void handleGroupChangeComplete(CalendarEntry existingEntry, Long originalGroupId,
-                                           CalendarEntryRequestDto dto, String imageUrl, int originalTotalPrice) {
+                                           CalendarEntryRequestDto dto, String imageUrl, PhotoStatus photoStatus,
+                                           String thumbnailUrl, int originalTotalPrice) {
+        // 멤버별 totalPaid 증감 (마지막에 한 번에 반영)
+        Map<Long, Integer> paidDeltas = new HashMap<>();
+
         // 1. 기존 그룹 처리 (원본 항목과 관련 항목 모두 처리)
         if (originalGroupId != null) {
             List<CalendarEntry> relatedEntries;
@@ -796,22 +850,17 @@ public class CalendarEntryService {
             }
 
             // 그룹 totalPaid 업데이트 - 전체 금액 차감
-            GroupInfo originalGroup = groupInfoRepository.findById(originalGroupId)
-                    .orElseThrow(() -> new NotFoundException("Original group not found"));
-            originalGroup.setTotalPaid(Math.max(0, originalGroup.getTotalPaid() - totalGroupPrice));
-            groupInfoRepository.save(originalGroup);
-            System.out.println("Updated original group totalPaid: " + originalGroup.getTotalPaid());
+            if (groupInfoRepository.addTotalPaid(originalGroupId, -totalGroupPrice) == 0) {
+                throw new NotFoundException("Original group not found");
+            }
+            log.debug("Subtracted {} from original group {} totalPaid", totalGroupPrice, originalGroupId);
 
             // 멤버들의 관련 항목 모두 삭제
             for (CalendarEntry relatedEntry : relatedEntries) {
                 if (!relatedEntry.getId().equals(existingEntry.getId())) {
                     // 멤버의 totalPaid 차감
-                    Member member = memberRepository.findById(relatedEntry.getUserId())
-                            .orElse(null);
-                    if (member != null && relatedEntry.getTotalPrice() != null) {
-                        member.addPaid(-relatedEntry.getTotalPrice());
-                        memberRepository.save(member);
-                        System.out.println("Updated member totalPaid for user: " + member.getId());
+                    if (relatedEntry.getTotalPrice() != null) {
+                        paidDeltas.merge(relatedEntry.getUserId(), -relatedEntry.getTotalPrice(), Integer::sum);
                     }
 
                     // 관련 음료 정보 삭제
@@ -825,29 +874,29 @@ public class CalendarEntryService {
         }
 
         // 2. 원 작성자 처리
-        Member authorMember = memberRepository.findById(dto.getUserId())
-                .orElseThrow(() -> new NotFoundException("Author member not found"));
+        if (!memberRepository.existsById(dto.getUserId())) {
+            throw new NotFoundException("Author member not found");
+        }
 
         // 기존 금액 차감
-        authorMember.addPaid(-originalTotalPrice);
-        memberRepository.save(authorMember);
+        paidDeltas.merge(dto.getUserId(), -originalTotalPrice, Integer::sum);
 
         // 3. 새 그룹으로 변경하는 경우
         if (dto.getGroupId() != null) {
-            // 새 그룹 정보 및 멤버 조회
-            GroupInfo newGroup = groupInfoRepository.findById(dto.getGroupId())
-                    .orElseThrow(() -> new NotFoundException("New group not found"));
-            List<GroupMember> newGroupMembers = groupMemberRepository.findByGroupId(dto.getGroupId());
-            int memberCount = Math.max(1, newGroupMembers.size());
+            // 새 그룹 멤버 조회
+            List<Long> newMemberIds = groupMembershipIndex.findMemberIds(dto.getGroupId()).orElse(List.of());
+            int memberCount = Math.max(1, newMemberIds.size());
 
             // 개인별 금액 계산
             int newTotalPrice = dto.getTotalPrice() != null ? dto.getTotalPrice() : 0;
             int pricePerMember = newTotalPrice / memberCount;
 
             // 그룹 totalPaid 업데이트 (전체 금액 추가)
-            newGroup.setTotalPaid(newGroup.getTotalPaid() + newTotalPrice);
-            groupInfoRepository.save(newGroup);
-            System.out.println("Updated new group totalPaid: " + newGroup.getTotalPaid());
+            if (groupInfoRepository.addTotalPaid(dto.getGroupId(), newTotalPrice) == 0) {
+                throw new NotFoundException("New group not found");
+            }
+            log.debug("Added {} to new group {} totalPaid", newTotalPrice, dto.getGroupId());
+            groupInfoRepository.touchLastActivity(dto.getGroupId(), LocalDateTime.now());
 
             // 본인 항목 업데이트
             existingEntry.setGroupId(dto.getGroupId());
@@ -855,56 +904,23 @@ public class CalendarEntryService {
             existingEntry.setMemo(dto.getMemo());
             existingEntry.setTotalPrice(pricePerMember);
             existingEntry.setPhotoUrl(imageUrl);
+            existingEntry.setPhotoStatus(photoStatus);
+            existingEntry.setThumbnailUrl(thumbnailUrl);
             existingEntry.setIsGroupShared(false); // 원본 항목
 
-            // groupEntryId 설정 또는 유지
-            if (existingEntry.getGroupEntryId() == null) {
-                existingEntry.setGroupEntryId(existingEntry.getId());
-            }
+            // 새 그룹의 원본 항목이 되므로 groupEntryId를 자신의 ID로 설정 (멤버 항목이 이 ID를 참조)
+            existingEntry.setGroupEntryId(existingEntry.getId());
 
             calendarEntryRepository.save(existingEntry);
 
             // 본인의 totalPaid 업데이트 (나눈 금액 추가)
-            authorMember.addPaid(pricePerMember);
-            memberRepository.save(authorMember);
-            System.out.println("Updated author totalPaid: " + authorMember.getTotalPaid());
+            paidDeltas.merge(dto.getUserId(), pricePerMember, Integer::sum);
 
             // 음료 정보 업데이트
             updateDrinksComplete(existingEntry, dto.getDrinks(), memberCount);
 
-            // 다른 멤버들에게 항목 생성
-            for (GroupMember groupMember : newGroupMembers) {
-                // 작성자는 제외
-                if (groupMember.getMemberId().equals(dto.getUserId())) {
-                    continue;
-                }
-
-                Member member = memberRepository.findById(groupMember.getMemberId())
-                        .orElseThrow(() -> new NotFoundException("Member not found"));
-
-                // 멤버의 totalPaid 업데이트
-                member.addPaid(pricePerMember);
-                memberRepository.save(member);
-
-                // 멤버별 캘린더 항목 생성
-                CalendarEntry memberEntry = CalendarEntry.builder()
-                        .userId(member.getId())
-                        .groupId(dto.getGroupId())
-                        .groupEntryId(existingEntry.getId()) // 중요: 원본 항목의 ID로 설정
-                        .drinkingDate(dto.getDrinkingDate())
-                        .memo(dto.getMemo())
-                        .totalPrice(pricePerMember)
-                        .photoUrl(imageUrl)
-                        .createdAt(LocalDateTime.now())
-                        .isGroupShared(true) // 공유 항목
-                        .build();
-
-                CalendarEntry savedMemberEntry = calendarEntryRepository.save(memberEntry);
-                System.out.println("Created new member entry: " + savedMemberEntry.getId());
-
-                // 멤버의 음료 정보 추가
-                addMemberDrinks(savedMemberEntry, dto.getDrinks(), memberCount);
-            }
+            // 다른 멤버들에게 항목 생성 (outbox에 기록하고 GroupFanoutWorker가 처리)
+            groupFanoutService.enqueue(existingEntry, newMemberIds);
         } else {
             // 4. 개인 항목으로 변경하는 경우
             int newTotalPrice = dto.getTotalPrice() != null ? dto.getTotalPrice() : 0;
@@ -916,17 +932,19 @@ public class CalendarEntryService {
             existingEntry.setMemo(dto.getMemo());
             existingEntry.setTotalPrice(newTotalPrice);
             existingEntry.setPhotoUrl(imageUrl);
+            existingEntry.setPhotoStatus(photoStatus);
+            existingEntry.setThumbnailUrl(thumbnailUrl);
             existingEntry.setIsGroupShared(false);
             calendarEntryRepository.save(existingEntry);
 
             // 작성자의 totalPaid 업데이트 (전체 금액 추가)
-            authorMember.addPaid(newTotalPrice);
-            memberRepository.save(authorMember);
-            System.out.println("Updated author totalPaid for personal entry: " + authorMember.getTotalPaid());
+            paidDeltas.merge(dto.getUserId(), newTotalPrice, Integer::sum);
 
             // 음료 정보 업데이트
             updateDrinksComplete(existingEntry, dto.getDrinks(), 1);
         }
+
+        addMembersPaid(paidDeltas);
     }
 
     /**
@@ -934,7 +952,8 @@ public class CalendarEntryService {
      * 완전히 새로 작성된 메소드
      */
     private void handleGroupContentUpdateComplete(CalendarEntry existingEntry, CalendarEntryRequestDto dto,
-                                                  String imageUrl, int originalTotalPrice, int newTotalPrice) {
+                                                  String imageUrl, PhotoStatus photoStatus, String thumbnailUrl,
+                                                  int originalTotalPrice, int newTotalPrice) {
         Long groupId = existingEntry.getGroupId();
         Long groupEntryId = existingEntry.getGroupEntryId();
 
@@ -968,36 +987,29 @@ public class CalendarEntryService {
         }
 
         // 3. 그룹 총액 업데이트 (기존 금액 전체 차감 후 새 금액 전체 추가)
-        GroupInfo group = groupInfoRepository.findById(groupId)
-                .orElseThrow(() -> new NotFoundException("Group not found"));
-
-        group.setTotalPaid(group.getTotalPaid() - totalGroupOriginalPrice + newTotalPrice);
-        groupInfoRepository.save(group);
-        System.out.println("Updated group totalPaid: " + group.getTotalPaid());
+        if (groupInfoRepository.addTotalPaid(groupId, newTotalPrice - totalGroupOriginalPrice) == 0) {
+            throw new NotFoundException("Group not found");
+        }
+        log.debug("Updated group {} totalPaid by {}", groupId, newTotalPrice - totalGroupOriginalPrice);
+        groupInfoRepository.touchLastActivity(groupId, LocalDateTime.now());
 
         // 4. 멤버당 새 가격 계산
         int pricePerMemberNew = newTotalPrice / memberCount;
 
         // 5. 모든 관련 항목 및 멤버 업데이트
+        Map<Long, Integer> paidDeltas = new HashMap<>();
         for (CalendarEntry entry : relatedEntries) {
-            // 멤버 정보 조회
-            Member member = memberRepository.findById(entry.getUserId())
-                    .orElse(null);
-
-            if (member != null) {
-                // 멤버의 totalPaid 업데이트 (기존 금액 차감 후 새 금액 추가)
-                int currentPrice = entry.getTotalPrice() != null ? entry.getTotalPrice() : 0;
-                member.addPaid(-currentPrice); // 기존 금액 차감
-                member.addPaid(pricePerMemberNew); // 새 금액 추가
-                memberRepository.save(member);
-                System.out.println("Updated member totalPaid for " + member.getId());
-            }
+            // 멤버의 totalPaid 업데이트 (기존 금액 차감 후 새 금액 추가)
+            int currentPrice = entry.getTotalPrice() != null ? entry.getTotalPrice() : 0;
+            paidDeltas.merge(entry.getUserId(), pricePerMemberNew - currentPrice, Integer::sum);
 
             // 항목 업데이트
             entry.setDrinkingDate(dto.getDrinkingDate());
             entry.setMemo(dto.getMemo());
             entry.setTotalPrice(pricePerMemberNew);
             entry.setPhotoUrl(imageUrl);
+            entry.setPhotoStatus(photoStatus);
+            entry.setThumbnailUrl(thumbnailUrl);
             calendarEntryRepository.save(entry);
             System.out.println("Updated entry: " + entry.getId());
 
@@ -1009,6 +1021,8 @@ public class CalendarEntryService {
                 updateMemberDrinks(entry, dto.getDrinks(), memberCount);
             }
         }
+
+        addMembersPaid(paidDeltas);
     }
 
     /**
@@ -1016,21 +1030,21 @@ public class CalendarEntryService {
      * 완전히 새로 작성된 메소드
      */
     private void handlePersonalEntryUpdateComplete(CalendarEntry existingEntry, CalendarEntryRequestDto dto,
-                                                   String imageUrl, int originalTotalPrice, int newTotalPrice) {
+                                                   String imageUrl, PhotoStatus photoStatus, String thumbnailUrl,
+                                                   int originalTotalPrice, int newTotalPrice) {
         // 작성자의 totalPaid 업데이트 (기존 금액 차감 후 새 금액 추가)
-        Member member = memberRepository.findById(dto.getUserId())
-                .orElseThrow(() -> new NotFoundException("Member not found"));
-
-        member.addPaid(-originalTotalPrice); // 기존 금액 차감
-        member.addPaid(newTotalPrice); // 새 금액 추가
-        memberRepository.save(member);
-        System.out.println("Updated personal entry member totalPaid: " + member.getTotalPaid());
+        if (memberRepository.addTotalPaid(List.of(dto.getUserId()), newTotalPrice - originalTotalPrice) == 0) {
+            throw new NotFoundException("Member not found");
+        }
+        log.debug("Updated member {} totalPaid by {}", existingEntry.getUserId(), newTotalPrice - originalTotalPrice);
 
         // 항목 기본 정보 업데이트
         existingEntry.setDrinkingDate(dto.getDrinkingDate());
         existingEntry.setMemo(dto.getMemo());
         existingEntry.setTotalPrice(newTotalPrice);
         existingEntry.setPhotoUrl(imageUrl);
+        existingEntry.setPhotoStatus(photoStatus);
+        existingEntry.setThumbnailUrl(thumbnailUrl);
         calendarEntryRepository.save(existingEntry);
         System.out.println("Updated personal entry: " + existingEntry.getId());
 
@@ -1112,32 +1126,6 @@ public class CalendarEntryService {
     public List<CalendarEntryResponseDto> getDailyEntries(Long userId, LocalDate date) {
         List<CalendarEntry> entries = calendarEntryRepository.findByUserIdAndDrinkingDate(userId, date);
 
-        return entries.stream()
-                .map(this::getEntryWithDrinks)
-                .collect(Collectors.toList());
-    }
-
-    /**
-     * 새 멤버에게 음료 정보 추가
-     */
-    private void addMemberDrinks(CalendarEntry memberEntry, List<DrinkDto> drinks, int memberCount) {
-        if (drinks == null || drinks.isEmpty()) {
-            return;
-        }
-
-        for (DrinkDto drinkDto : drinks) {
-            Drink drink = drinkService.getDrinkByType(drinkDto.getType());
-            if (drink != null) {
-                int sharedQuantity = Math.max(1, drinkDto.getQuantity() / memberCount);
-
-                CalendarDrink memberDrink = CalendarDrink.builder()
-                        .calendarEntry(memberEntry)
-                        .drink(drink)
-                        .quantity(sharedQuantity)
-                        .build();
-
-                calendarDrinkRepository.save(memberDrink);
-            }
-        }
+        return getEntriesWithDrinks(entries);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,37 @@
+package com.drumtong.backend.api.calendar.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일별 지출 집계 검증 작업
+ * - 서버 시작 시 집계 테이블이 비어 있으면 백필
+ * - 매일 새벽 calendar_entries와 비교해서 다른 행만 보정 (불일치 수는 로그와 calendar.rollup.mismatches로 확인)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class DailySpendRollupRebuildJob {
+    private final DailySpendRollupService dailySpendRollupService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        if (dailySpendRollupService.isEmpty()) {
+            log.info("Daily spend rollup is empty, running backfill");
+            dailySpendRollupService.reconcileAll();
+        }
+    }
+
+    @Scheduled(cron = "${calendar.rollup.rebuild-cron:0 30 4 * * *}", zone = "Asia/Seoul")
+    public void rebuild() {
+        try {
+            dailySpendRollupService.reconcileAll();
+        } catch (Exception e) {
+            log.error("Daily spend rollup verification failed", e);
+        }
+    }
+}
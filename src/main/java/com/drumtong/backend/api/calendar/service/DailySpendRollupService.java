@@ -0,0 +1,180 @@
+package com.drumtong.backend.api.calendar.service;
+
+import com.drumtong.backend.api.calendar.dto.CalendarDailySummaryProjection;
+import com.drumtong.backend.api.calendar.dto.DailySpendRollupKey;
+import com.drumtong.backend.api.calendar.dto.DailySpendRollupKeyProjection;
+import com.drumtong.backend.api.calendar.dto.MonthlyExpenseProjection;
+import com.drumtong.backend.api.calendar.entity.CalendarEntry;
+import com.drumtong.backend.api.calendar.entity.DailySpendOwnerType;
+import com.drumtong.backend.api.calendar.entity.DailySpendRollup;
+import com.drumtong.backend.api.calendar.repository.CalendarEntryRepository;
+import com.drumtong.backend.api.calendar.repository.DailySpendRollupRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.*;
+import java.util.stream.Collectors;
+
+@Service
+@Slf4j
+public class DailySpendRollupService {
+    private final DailySpendRollupRepository dailySpendRollupRepository;
+    private final CalendarEntryRepository calendarEntryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int reconcileBatchSize;
+
+    private final Counter mismatchCounter;
+
+    public DailySpendRollupService(DailySpendRollupRepository dailySpendRollupRepository,
+                                   CalendarEntryRepository calendarEntryRepository,
+                                   TransactionTemplate transactionTemplate,
+                                   MeterRegistry meterRegistry,
+                                   @Value("${calendar.rollup.reconcile-batch-size:200}") int reconcileBatchSize) {
+        this.dailySpendRollupRepository = dailySpendRollupRepository;
+        this.calendarEntryRepository = calendarEntryRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.reconcileBatchSize = reconcileBatchSize;
+        this.mismatchCounter = Counter.builder("calendar.rollup.mismatches")
+                .description("Daily spend rollup rows that differed from calendar_entries and were recalculated")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 캘린더 항목이 반영되는 집계 키 (작성자 개인 + 그룹 항목이면 그룹)
+     */
+    public Set<DailySpendRollupKey> keysOf(CalendarEntry entry) {
+        Set<DailySpendRollupKey> keys = new HashSet<>();
+        if (entry.getDrinkingDate() == null) {
+            return keys;
+        }
+        if (entry.getUserId() != null) {
+            keys.add(new DailySpendRollupKey(DailySpendOwnerType.USER, entry.getUserId(), entry.getDrinkingDate()));
+        }
+        if (entry.getGroupId() != null) {
+            keys.add(new DailySpendRollupKey(DailySpendOwnerType.GROUP, entry.getGroupId(), entry.getDrinkingDate()));
+        }
+        return keys;
+    }
+
+    public Set<DailySpendRollupKey> keysOf(Collection<CalendarEntry> entries) {
+        Set<DailySpendRollupKey> keys = new HashSet<>();
+        for (CalendarEntry entry : entries) {
+            keys.addAll(keysOf(entry));
+        }
+        return keys;
+    }
+
+    /**
+     * 주어진 키의 집계를 calendar_entries 기준으로 다시 계산 (호출한 쓰기 트랜잭션 안에서 실행)
+     */
+    @Transactional
+    public void refresh(Collection<DailySpendRollupKey> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        // 아직 반영되지 않은 항목/음료 변경을 먼저 DB에 반영
+        calendarEntryRepository.flush();
+
+        // 항상 같은 순서로 잠가서 동시 요청 간 교착 상태 방지
+        for (DailySpendRollupKey key : new TreeSet<>(keys)) {
+            refresh(key);
+        }
+    }
+
+    private void refresh(DailySpendRollupKey key) {
+        dailySpendRollupRepository.insertIfAbsent(key.getOwnerType().name(), key.getOwnerId(), key.getSpendDate());
+        DailySpendRollup rollup = dailySpendRollupRepository.findForUpdate(
+                        key.getOwnerType(), key.getOwnerId(), key.getSpendDate())
+                .orElseThrow(() -> new IllegalStateException("Rollup row not found: " + key));
+
+        List<CalendarDailySummaryProjection> rows = key.getOwnerType() == DailySpendOwnerType.USER
+                ? calendarEntryRepository.summarizeDailyByUserId(key.getOwnerId(), key.getSpendDate(), key.getSpendDate())
+                : calendarEntryRepository.summarizeDailyByGroupId(key.getOwnerId(), key.getSpendDate(), key.getSpendDate());
+
+        if (rows.isEmpty()) {
+            dailySpendRollupRepository.delete(rollup);
+            return;
+        }
+
+        Map<String, Integer> drinkQuantities = new HashMap<>();
+        for (CalendarDailySummaryProjection row : rows) {
+            if (row.getDrinkType() != null) {
+                drinkQuantities.merge(row.getDrinkType(), row.getQuantitySum().intValue(), Integer::sum);
+            }
+        }
+
+        CalendarDailySummaryProjection first = rows.get(0);
+        rollup.update(first.getEntryCount().intValue(), first.getPriceSum().intValue(), drinkQuantities);
+    }
+
+    // 기간 내 지출 합계
+    @Transactional(readOnly = true)
+    public int sumTotalPrice(DailySpendOwnerType ownerType, Long ownerId, LocalDate startDate, LocalDate endDate) {
+        return (int) dailySpendRollupRepository.sumTotalPrice(ownerType, ownerId, startDate, endDate);
+    }
+
+    // 기간 내 일자별 지출 합계 (지출이 없는 날짜는 포함되지 않음)
+    @Transactional(readOnly = true)
+    public Map<LocalDate, Integer> getDailyTotals(DailySpendOwnerType ownerType, Long ownerId,
+                                                  LocalDate startDate, LocalDate endDate) {
+        return dailySpendRollupRepository.findByOwnerTypeAndOwnerIdAndSpendDateBetween(ownerType, ownerId, startDate, endDate)
+                .stream()
+                .collect(Collectors.toMap(DailySpendRollup::getSpendDate, DailySpendRollup::getTotalPrice));
+    }
+
+    // 기간 내 월별 지출 합계 (지출이 없는 월은 포함되지 않음)
+    @Transactional(readOnly = true)
+    public List<MonthlyExpenseProjection> sumTotalPriceByMonth(DailySpendOwnerType ownerType, Long ownerId,
+                                                               LocalDate startDate, LocalDate endDate) {
+        return dailySpendRollupRepository.sumTotalPriceByMonth(ownerType.name(), ownerId, startDate, endDate);
+    }
+
+    /**
+     * 집계 테이블을 calendar_entries 기준 값과 비교해서 다른 행만 다시 계산 (백필 / 검증용)
+     * 테이블 잠금 없이, 다른 키마다 쓰기 경로와 같은 행 잠금(refresh)으로 보정하므로
+     * 실행 중에도 캘린더 작성/수정/삭제가 막히지 않음
+     * @return 불일치 행 수
+     */
+    public int reconcileAll() {
+        long startedAt = System.currentTimeMillis();
+
+        List<DailySpendRollupKey> mismatched = dailySpendRollupRepository.findMismatchedKeys().stream()
+                .map(this::toKey)
+                .sorted()
+                .toList();
+
+        // 키 묶음별 짧은 트랜잭션으로 보정 (정렬된 순서로 잠가서 쓰기 경로와 교착 상태 방지)
+        for (int from = 0; from < mismatched.size(); from += reconcileBatchSize) {
+            List<DailySpendRollupKey> batch = mismatched.subList(from, Math.min(from + reconcileBatchSize, mismatched.size()));
+            transactionTemplate.executeWithoutResult(status -> {
+                calendarEntryRepository.flush();
+                batch.forEach(this::refresh);
+            });
+        }
+
+        mismatchCounter.increment(mismatched.size());
+        if (mismatched.isEmpty()) {
+            log.info("Daily spend rollup verified: no mismatches ({} ms)", System.currentTimeMillis() - startedAt);
+        } else {
+            log.warn("Daily spend rollup verified: {} mismatched rows recalculated ({} ms)",
+                    mismatched.size(), System.currentTimeMillis() - startedAt);
+        }
+        return mismatched.size();
+    }
+
+    private DailySpendRollupKey toKey(DailySpendRollupKeyProjection row) {
+        return new DailySpendRollupKey(DailySpendOwnerType.valueOf(row.getOwnerType()), row.getOwnerId(), row.getSpendDate());
+    }
+
+    @Transactional(readOnly = true)
+    public boolean isEmpty() {
+        return !dailySpendRollupRepository.existsAny();
+    }
+}
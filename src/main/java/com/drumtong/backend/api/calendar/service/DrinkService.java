@@ -2,15 +2,42 @@ package com.drumtong.backend.api.calendar.service;
 
 import com.drumtong.backend.api.calendar.entity.Drink;
 import com.drumtong.backend.api.calendar.repository.DrinkRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.HashMap;
+import java.util.Map;
+
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class DrinkService {
     private final DrinkRepository drinkRepository;
 
+    private final Counter cacheHitCounter;
+    private final Counter cacheMissCounter;
+
+    // type -> Drink (읽기 전용, 변경 시 새 맵으로 통째로 교체)
+    private volatile Map<String, Drink> drinksByType = Map.of();
+
+    public DrinkService(DrinkRepository drinkRepository, MeterRegistry meterRegistry) {
+        this.drinkRepository = drinkRepository;
+        this.cacheHitCounter = Counter.builder("drink.cache.requests")
+                .tag("result", "hit")
+                .description("Drink lookups served from the in-memory catalog")
+                .register(meterRegistry);
+        this.cacheMissCounter = Counter.builder("drink.cache.requests")
+                .tag("result", "miss")
+                .description("Drink lookups that fell back to the database")
+                .register(meterRegistry);
+        Gauge.builder("drink.cache.size", this, service -> service.drinksByType.size())
+                .description("Drinks held in the in-memory catalog")
+                .register(meterRegistry);
+    }
+
     @PostConstruct
     public void initDrinks() {
         // Initialize with our two standard drink types if they don't exist
@@ -27,9 +54,39 @@ public class DrinkService {
                     .type("맥주")
                     .build());
         }
+
+        refreshCache();
     }
 
     public Drink getDrinkByType(String type) {
-        return drinkRepository.findByType(type);
+        if (type == null) {
+            return null;
+        }
+
+        Drink drink = drinksByType.get(type);
+        if (drink != null) {
+            cacheHitCounter.increment();
+            return drink;
+        }
+
+        // 다른 서버에서 추가된 음료일 수 있으므로 DB 확인 후 있으면 캐시 갱신
+        cacheMissCounter.increment();
+        drink = drinkRepository.findByType(type);
+        if (drink != null) {
+            refreshCache();
+        }
+        return drink;
+    }
+
+    /**
+     * drinks 테이블 전체를 다시 읽어서 캐시 교체
+     */
+    private void refreshCache() {
+        Map<String, Drink> loaded = new HashMap<>();
+        for (Drink drink : drinkRepository.findAll()) {
+            loaded.putIfAbsent(drink.getType(), drink);
+        }
+        drinksByType = Map.copyOf(loaded);
+        log.info("Drink catalog loaded: {}", drinksByType.keySet());
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,237 @@
+package com.drumtong.backend.api.calendar.service;
+
+import com.drumtong.backend.api.calendar.entity.CalendarDrink;
+import com.drumtong.backend.api.calendar.entity.CalendarEntry;
+import com.drumtong.backend.api.calendar.entity.GroupFanoutOutbox;
+import com.drumtong.backend.api.calendar.entity.GroupFanoutStatus;
+import com.drumtong.backend.api.calendar.repository.CalendarDrinkRepository;
+import com.drumtong.backend.api.calendar.repository.CalendarEntryRepository;
+import com.drumtong.backend.api.calendar.repository.GroupFanoutOutboxRepository;
+import com.drumtong.backend.api.member.repository.MemberRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * 그룹 항목의 멤버별 복사 처리
+ * - 항목 작성 시에는 outbox에 작업만 기록하고 (enqueue)
+ * - GroupFanoutWorker가 processNext로 멤버 항목/음료 생성, totalPaid, 일별 집계를 반영
+ * - 수정/삭제 전에는 completePending으로 남은 작업(재시도를 소진한 작업 포함)을 먼저 처리
+ * - 재시도를 소진한 작업은 retryFailed로 다시 대기 상태로 돌림 (GroupFanoutEndpoint)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class GroupFanoutService {
+    private static final int MAX_ERROR_LENGTH = 1000;
+    // 그룹 총액에는 이미 반영되어 있으므로 FAILED 작업도 멤버 항목을 만들어야 금액이 맞음
+    private static final List<GroupFanoutStatus> UNFINISHED = List.of(GroupFanoutStatus.PENDING, GroupFanoutStatus.FAILED);
+
+    private final GroupFanoutOutboxRepository groupFanoutOutboxRepository;
+    private final CalendarEntryRepository calendarEntryRepository;
+    private final CalendarDrinkRepository calendarDrinkRepository;
+    private final MemberRepository memberRepository;
+    private final DailySpendRollupService dailySpendRollupService;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${calendar.fanout.max-attempts:10}")
+    private int maxAttempts;
+
+    @Value("${calendar.fanout.retry-base-delay-ms:5000}")
+    private long retryBaseDelayMs;
+
+    @Value("${calendar.fanout.retry-max-delay-ms:600000}")
+    private long retryMaxDelayMs;
+
+    /**
+     * 원본 항목과 같은 트랜잭션에서 멤버 복사 작업 기록
+     */
+    @Transactional
+    public void enqueue(CalendarEntry groupEntry, Collection<Long> memberIds) {
+        Set<Long> targetMemberIds = memberIds.stream()
+                .filter(memberId -> !memberId.equals(groupEntry.getUserId()))
+                .collect(Collectors.toSet());
+        if (targetMemberIds.isEmpty()) {
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        groupFanoutOutboxRepository.save(GroupFanoutOutbox.builder()
+                .groupEntryId(groupEntry.getGroupEntryId())
+                .groupId(groupEntry.getGroupId())
+                .memberIds(targetMemberIds)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .build());
+    }
+
+    /**
+     * 아직 처리되지 않은 작업(PENDING, FAILED)을 호출한 트랜잭션 안에서 바로 처리
+     * 그룹 항목 수정/삭제 전에 호출해서 멤버 항목이 모두 있는 상태로 만듦
+     * 여기서도 실패하면 예외가 그대로 전달되어 수정/삭제가 롤백됨
+     */
+    @Transactional
+    public void completePending(Long groupEntryId) {
+        if (groupEntryId == null) {
+            return;
+        }
+
+        for (GroupFanoutOutbox outbox : groupFanoutOutboxRepository.findForUpdate(groupEntryId, UNFINISHED)) {
+            materialize(outbox);
+            outbox.markDone(LocalDateTime.now());
+        }
+    }
+
+    /**
+     * 대기 중인 작업 하나를 처리 (작업별 트랜잭션)
+     * 처리할 작업이 없으면 false
+     */
+    public boolean processNext() {
+        Long[] claimedId = new Long[1];
+        try {
+            return Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                Optional<GroupFanoutOutbox> next = groupFanoutOutboxRepository.claimNext(LocalDateTime.now());
+                if (next.isEmpty()) {
+                    return false;
+                }
+
+                GroupFanoutOutbox outbox = next.get();
+                claimedId[0] = outbox.getId();
+                materialize(outbox);
+                outbox.markDone(LocalDateTime.now());
+                return true;
+            }));
+        } catch (RuntimeException e) {
+            if (claimedId[0] == null) {
+                throw e;
+            }
+            log.warn("Group fan-out {} failed", claimedId[0], e);
+            transactionTemplate.executeWithoutResult(status -> recordFailure(claimedId[0], e));
+            return true;
+        }
+    }
+
+    private void recordFailure(Long outboxId, RuntimeException e) {
+        groupFanoutOutboxRepository.findById(outboxId).ifPresent(outbox -> {
+            long delayMs = Math.min(retryMaxDelayMs, retryBaseDelayMs << Math.min(outbox.getAttempts(), 20));
+            String error = String.valueOf(e.getMessage());
+            outbox.markRetry(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error,
+                    LocalDateTime.now().plus(Duration.ofMillis(delayMs)), maxAttempts);
+            if (outbox.getStatus() == GroupFanoutStatus.FAILED) {
+                log.error("Group fan-out {} gave up after {} attempts", outboxId, outbox.getAttempts());
+            }
+        });
+    }
+
+    /**
+     * 원본 항목을 복사해서 아직 항목이 없는 멤버에게 생성 (이미 있는 멤버는 건너뛰므로 재시도해도 중복 없음)
+     */
+    private void materialize(GroupFanoutOutbox outbox) {
+        CalendarEntry groupEntry = calendarEntryRepository.findById(outbox.getGroupEntryId()).orElse(null);
+        if (groupEntry == null || !outbox.getGroupId().equals(groupEntry.getGroupId())) {
+            // 그 사이 원본이 삭제되었거나 다른 그룹으로 옮겨진 경우
+            return;
+        }
+
+        Set<Long> existingMemberIds = calendarEntryRepository.findByGroupEntryId(groupEntry.getGroupEntryId()).stream()
+                .map(CalendarEntry::getUserId)
+                .collect(Collectors.toSet());
+        List<Long> targetMemberIds = outbox.getMemberIds().stream()
+                .filter(memberId -> !existingMemberIds.contains(memberId))
+                .sorted()
+                .toList();
+        if (targetMemberIds.isEmpty()) {
+            return;
+        }
+
+        List<CalendarDrink> groupDrinks = calendarDrinkRepository.findAllWithDrinkByCalendarEntryIds(
+                List.of(groupEntry.getId()));
+        List<CalendarEntry> memberEntries = new ArrayList<>();
+        List<CalendarDrink> memberDrinks = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        for (Long memberId : targetMemberIds) {
+            CalendarEntry memberEntry = CalendarEntry.builder()
+                    .userId(memberId)
+                    .groupId(groupEntry.getGroupId())
+                    .groupEntryId(groupEntry.getGroupEntryId())
+                    .drinkingDate(groupEntry.getDrinkingDate())
+                    .memo(groupEntry.getMemo())
+                    .totalPrice(groupEntry.getTotalPrice())
+                    .photoUrl(groupEntry.getPhotoUrl())
+                    .photoStatus(groupEntry.getPhotoStatus())
+                    .thumbnailUrl(groupEntry.getThumbnailUrl())
+                    .photoStagedAt(groupEntry.getPhotoStagedAt())
+                    .createdAt(now)
+                    .isGroupShared(true)
+                    .build();
+            memberEntries.add(memberEntry);
+
+            for (CalendarDrink groupDrink : groupDrinks) {
+                memberDrinks.add(CalendarDrink.builder()
+                        .calendarEntry(memberEntry)
+                        .drink(groupDrink.getDrink())
+                        .quantity(groupDrink.getQuantity())
+                        .build());
+            }
+        }
+
+        calendarEntryRepository.saveAll(memberEntries);
+        calendarDrinkRepository.saveAll(memberDrinks);
+
+        // 멤버들의 totalPaid 업데이트 (나눈 금액)
+        int pricePerMember = groupEntry.getTotalPrice() != null ? groupEntry.getTotalPrice() : 0;
+        if (pricePerMember != 0) {
+            memberRepository.addTotalPaid(targetMemberIds, pricePerMember);
+        }
+
+        dailySpendRollupService.refresh(dailySpendRollupService.keysOf(memberEntries));
+
+        log.info("Group fan-out {}: created {} member entries for groupEntryId {}",
+                outbox.getId(), memberEntries.size(), groupEntry.getGroupEntryId());
+    }
+
+    /**
+     * 재시도를 소진한 작업을 다시 대기 상태로 돌려서 워커가 처리하도록 함
+     * 돌린 작업 수를 반환
+     */
+    @Transactional
+    public int retryFailed() {
+        int requeued = groupFanoutOutboxRepository.requeueFailed(
+                GroupFanoutStatus.FAILED, GroupFanoutStatus.PENDING, LocalDateTime.now());
+        if (requeued > 0) {
+            log.info("Requeued {} failed group fan-out jobs", requeued);
+        }
+        return requeued;
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return groupFanoutOutboxRepository.countByStatus(GroupFanoutStatus.PENDING);
+    }
+
+    @Transactional(readOnly = true)
+    public long countFailed() {
+        return groupFanoutOutboxRepository.countByStatus(GroupFanoutStatus.FAILED);
+    }
+
+    // 가장 오래 대기 중인 작업의 대기 시간 (없으면 0)
+    @Transactional(readOnly = true)
+    public Duration getOldestPendingAge() {
+        LocalDateTime oldest = groupFanoutOutboxRepository.findOldestCreatedAt(GroupFanoutStatus.PENDING);
+        return oldest == null ? Duration.ZERO : Duration.between(oldest, LocalDateTime.now());
+    }
+
+    @Transactional
+    public int purgeDone(LocalDateTime before) {
+        groupFanoutOutboxRepository.deleteDoneMembersBefore(before);
+        return groupFanoutOutboxRepository.deleteDoneBefore(before);
+    }
+}
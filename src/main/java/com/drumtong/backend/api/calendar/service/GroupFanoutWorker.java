@@ -0,0 +1,94 @@
+package com.drumtong.backend.api.calendar.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 그룹 항목 멤버 복사 outbox 처리 작업
+ * - 주기적으로 대기 작업을 가져와 처리 (여러 서버에서 실행해도 SKIP LOCKED로 나눠서 처리)
+ * - 대기 건수/지연 시간을 메트릭으로 노출
+ */
+@Component
+@Slf4j
+public class GroupFanoutWorker {
+    private final GroupFanoutService groupFanoutService;
+
+    private final Counter processedCounter;
+    private final Counter errorCounter;
+    private final Timer pollTimer;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @Value("${calendar.fanout.batch-size:100}")
+    private int batchSize;
+
+    @Value("${calendar.fanout.retention-days:7}")
+    private int retentionDays;
+
+    public GroupFanoutWorker(GroupFanoutService groupFanoutService, MeterRegistry meterRegistry) {
+        this.groupFanoutService = groupFanoutService;
+        this.processedCounter = Counter.builder("calendar.fanout.processed")
+                .description("Group fan-out jobs handled by the worker")
+                .register(meterRegistry);
+        this.errorCounter = Counter.builder("calendar.fanout.errors")
+                .description("Group fan-out polls that failed")
+                .register(meterRegistry);
+        this.pollTimer = Timer.builder("calendar.fanout.poll")
+                .description("Time spent draining the group fan-out outbox")
+                .register(meterRegistry);
+        Gauge.builder("calendar.fanout.pending", pendingCount, AtomicLong::get)
+                .description("Group fan-out jobs waiting to be processed")
+                .register(meterRegistry);
+        Gauge.builder("calendar.fanout.failed", failedCount, AtomicLong::get)
+                .description("Group fan-out jobs that exhausted their retries")
+                .register(meterRegistry);
+        Gauge.builder("calendar.fanout.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest pending group fan-out job")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${calendar.fanout.poll-delay-ms:500}")
+    public void poll() {
+        pollTimer.record(() -> {
+            try {
+                for (int i = 0; i < batchSize && groupFanoutService.processNext(); i++) {
+                    processedCounter.increment();
+                }
+            } catch (Exception e) {
+                errorCounter.increment();
+                log.error("Group fan-out poll failed", e);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${calendar.fanout.metrics-delay-ms:15000}")
+    public void refreshMetrics() {
+        try {
+            pendingCount.set(groupFanoutService.countPending());
+            failedCount.set(groupFanoutService.countFailed());
+            lagSeconds.set(groupFanoutService.getOldestPendingAge().toSeconds());
+        } catch (Exception e) {
+            log.warn("Failed to refresh group fan-out metrics", e);
+        }
+    }
+
+    @Scheduled(cron = "${calendar.fanout.purge-cron:0 0 5 * * *}", zone = "Asia/Seoul")
+    public void purgeDone() {
+        try {
+            int purged = groupFanoutService.purgeDone(LocalDateTime.now().minusDays(retentionDays));
+            log.info("Purged {} finished group fan-out jobs", purged);
+        } catch (Exception e) {
+            log.error("Group fan-out purge failed", e);
+        }
+    }
+}
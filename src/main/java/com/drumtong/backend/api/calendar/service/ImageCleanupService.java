@@ -0,0 +1,243 @@
+package com.drumtong.backend.api.calendar.service;
+
+import com.drumtong.backend.api.calendar.entity.CalendarEntry;
+import com.drumtong.backend.api.calendar.repository.CalendarEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 캘린더 사진 삭제
+ * - 항목 삭제/사진 교체 시 트랜잭션 커밋 후에만 삭제 (롤백되면 사진 유지)
+ * - 그룹 멤버 복사본이 같은 사진을 쓰므로, 커밋 후 아무 항목도 참조하지 않는 사진만 삭제
+ * - DeleteObjects로 최대 1000개씩 한 번에 삭제
+ * - sweepOrphans로 key-prefix 아래에서 어떤 항목도 참조하지 않는 객체를 주기적으로 정리
+ */
+@Service
+@Slf4j
+public class ImageCleanupService {
+    // DeleteObjects 한 번에 지정할 수 있는 최대 key 수
+    private static final int MAX_KEYS_PER_DELETE = 1000;
+
+    private final S3Client s3Client;
+    private final ImageUploadService imageUploadService;
+    private final CalendarEntryRepository calendarEntryRepository;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ThreadPoolExecutor executor;
+
+    private final Counter releasedCounter;
+    private final Counter orphanCounter;
+    private final Counter orphanFoundCounter;
+    private final Counter failureCounter;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${cloud.aws.s3.orphan-sweep.min-age-hours:48}")
+    private long orphanMinAgeHours;
+
+    public ImageCleanupService(S3Client s3Client,
+                               ImageUploadService imageUploadService,
+                               CalendarEntryRepository calendarEntryRepository,
+                               PlatformTransactionManager transactionManager,
+                               MeterRegistry meterRegistry) {
+        this.s3Client = s3Client;
+        this.imageUploadService = imageUploadService;
+        this.calendarEntryRepository = calendarEntryRepository;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+
+        // 삭제는 급하지 않으므로 스레드 하나로 처리 (대기열이 가득 차면 커밋한 스레드에서 직접 처리)
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(1000),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-cleanup");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+
+        this.releasedCounter = Counter.builder("image.delete.objects")
+                .tag("reason", "released")
+                .description("Calendar photo objects deleted from S3")
+                .register(meterRegistry);
+        this.orphanCounter = Counter.builder("image.delete.objects")
+                .tag("reason", "orphan")
+                .description("Calendar photo objects deleted from S3")
+                .register(meterRegistry);
+        this.orphanFoundCounter = Counter.builder("image.orphans.found")
+                .description("Unreferenced calendar photo objects found by the orphan sweep")
+                .register(meterRegistry);
+        this.failureCounter = Counter.builder("image.delete.failures")
+                .description("Calendar photo objects S3 refused to delete")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 삭제되는 항목들의 사진을 커밋 후 정리 대상으로 등록
+     */
+    public void releaseAfterCommit(Collection<CalendarEntry> entries) {
+        Map<String, String> thumbnailUrlsByPhotoUrl = new HashMap<>();
+        for (CalendarEntry entry : entries) {
+            if (entry.getPhotoUrl() != null && !entry.getPhotoUrl().isEmpty()) {
+                thumbnailUrlsByPhotoUrl.putIfAbsent(entry.getPhotoUrl(), entry.getThumbnailUrl());
+            }
+        }
+        releaseAfterCommit(thumbnailUrlsByPhotoUrl);
+    }
+
+    /**
+     * 교체되는 사진을 커밋 후 정리 대상으로 등록
+     */
+    public void releaseAfterCommit(String photoUrl, String thumbnailUrl) {
+        if (photoUrl == null || photoUrl.isEmpty()) {
+            return;
+        }
+        Map<String, String> thumbnailUrlsByPhotoUrl = new HashMap<>();
+        thumbnailUrlsByPhotoUrl.put(photoUrl, thumbnailUrl);
+        releaseAfterCommit(thumbnailUrlsByPhotoUrl);
+    }
+
+    private void releaseAfterCommit(Map<String, String> thumbnailUrlsByPhotoUrl) {
+        if (thumbnailUrlsByPhotoUrl.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            executor.execute(() -> release(thumbnailUrlsByPhotoUrl));
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                executor.execute(() -> release(thumbnailUrlsByPhotoUrl));
+            }
+        });
+    }
+
+    // 커밋된 상태 기준으로 아직 참조하는 항목이 있는 사진은 남김
+    private void release(Map<String, String> thumbnailUrlsByPhotoUrl) {
+        try {
+            Set<String> referenced = new HashSet<>(
+                    calendarEntryRepository.findReferencedPhotoUrls(thumbnailUrlsByPhotoUrl.keySet()));
+
+            List<String> keys = new ArrayList<>();
+            thumbnailUrlsByPhotoUrl.forEach((photoUrl, thumbnailUrl) -> {
+                if (referenced.contains(photoUrl)) {
+                    return;
+                }
+                addKey(keys, photoUrl);
+                addKey(keys, thumbnailUrl);
+            });
+
+            releasedCounter.increment(deleteKeys(keys));
+        } catch (RuntimeException e) {
+            // 남은 객체는 sweepOrphans에서 정리됨
+            log.error("Failed to release photos {}", thumbnailUrlsByPhotoUrl.keySet(), e);
+        }
+    }
+
+    private void addKey(List<String> keys, String url) {
+        String key = imageUploadService.keyOf(url);
+        if (key != null) {
+            keys.add(key);
+        } else if (url != null) {
+            log.warn("Not a bucket URL, skipping delete: {}", url);
+        }
+    }
+
+    /**
+     * key-prefix 아래 객체 중 어떤 항목의 photoUrl/thumbnailUrl로도 쓰이지 않는 객체 정리
+     * 항목의 URL에서 꺼낸 key와 비교 (URL을 다시 만들어 비교하지 않으므로 도메인이 바뀌어도 참조 객체를 지우지 않음)
+     * 업로드 직후 아직 항목에 연결되지 않은 객체를 지우지 않도록 min-age-hours보다 오래된 객체만 대상
+     * dryRun이면 삭제하지 않고 세기만 함, 찾은 고아 객체 수를 반환
+     */
+    public int sweepOrphans(boolean dryRun) {
+        Set<String> referencedKeys = loadReferencedKeys();
+        Instant cutoff = Instant.now().minus(Duration.ofHours(orphanMinAgeHours));
+        int found = 0;
+
+        ListObjectsV2Request request = ListObjectsV2Request.builder()
+                .bucket(bucketName)
+                .prefix(imageUploadService.getKeyPrefix())
+                .maxKeys(MAX_KEYS_PER_DELETE)
+                .build();
+        for (ListObjectsV2Response page : s3Client.listObjectsV2Paginator(request)) {
+            List<String> orphanKeys = page.contents().stream()
+                    .filter(object -> object.lastModified().isBefore(cutoff))
+                    .map(S3Object::key)
+                    .filter(key -> !referencedKeys.contains(key))
+                    .toList();
+            if (orphanKeys.isEmpty()) {
+                continue;
+            }
+
+            found += orphanKeys.size();
+            orphanFoundCounter.increment(orphanKeys.size());
+            if (dryRun) {
+                log.info("Orphaned calendar photo objects (dry run): {}", orphanKeys);
+            } else {
+                orphanCounter.increment(deleteKeys(orphanKeys));
+            }
+        }
+        return found;
+    }
+
+    // 항목이 참조하는 사진/썸네일의 key (이 버킷 URL이 아닌 값은 제외)
+    private Set<String> loadReferencedKeys() {
+        Set<String> keys = new HashSet<>();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<String> urls = calendarEntryRepository.streamReferencedPhotoUrls()) {
+                urls.map(imageUploadService::keyOf)
+                        .filter(Objects::nonNull)
+                        .forEach(keys::add);
+            }
+        });
+        return keys;
+    }
+
+    // DeleteObjects로 나눠서 삭제하고 실제로 삭제된 수를 반환
+    private int deleteKeys(List<String> keys) {
+        int deleted = 0;
+        for (int from = 0; from < keys.size(); from += MAX_KEYS_PER_DELETE) {
+            List<ObjectIdentifier> objects = keys.subList(from, Math.min(keys.size(), from + MAX_KEYS_PER_DELETE))
+                    .stream()
+                    .map(key -> ObjectIdentifier.builder().key(key).build())
+                    .toList();
+
+            DeleteObjectsResponse response = s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                    .bucket(bucketName)
+                    .delete(Delete.builder().objects(objects).quiet(true).build())
+                    .build());
+
+            for (S3Error error : response.errors()) {
+                log.warn("Failed to delete S3 object {}: {} {}", error.key(), error.code(), error.message());
+            }
+            failureCounter.increment(response.errors().size());
+            deleted += objects.size() - response.errors().size();
+        }
+        return deleted;
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
@@ -0,0 +1,42 @@
+package com.drumtong.backend.api.calendar.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 캘린더 사진 고아 객체 정리 작업
+ * - 매일 새벽 key-prefix 아래 객체와 calendar_entries의 photo_url/thumbnail_url을 대조해서 참조 없는 객체 삭제
+ * - 기본값은 꺼져 있음, 켜도 dry-run=false로 바꾸기 전까지는 찾은 객체를 로그로 남기고 세기만 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImageOrphanSweepJob {
+    private final ImageCleanupService imageCleanupService;
+
+    @Value("${cloud.aws.s3.orphan-sweep.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cloud.aws.s3.orphan-sweep.dry-run:true}")
+    private boolean dryRun;
+
+    @Scheduled(cron = "${cloud.aws.s3.orphan-sweep.cron:0 0 6 * * *}", zone = "Asia/Seoul")
+    public void sweep() {
+        if (!enabled) {
+            return;
+        }
+        try {
+            int found = imageCleanupService.sweepOrphans(dryRun);
+            if (dryRun) {
+                log.info("Found {} orphaned calendar photo objects (dry run, nothing deleted)", found);
+            } else {
+                log.info("Deleted {} orphaned calendar photo objects", found);
+            }
+        } catch (Exception e) {
+            log.error("Calendar photo orphan sweep failed", e);
+        }
+    }
+}
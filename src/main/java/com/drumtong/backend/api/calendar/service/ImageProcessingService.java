@@ -0,0 +1,279 @@
+package com.drumtong.backend.api.calendar.service;
+
+import com.drew.imaging.ImageMetadataReader;
+import com.drew.imaging.ImageProcessingException;
+import com.drew.metadata.Metadata;
+import com.drew.metadata.MetadataException;
+import com.drew.metadata.exif.ExifIFD0Directory;
+import com.drumtong.backend.api.calendar.dto.ProcessedImage;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.*;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 캘린더 사진 변환
+ * - 디코딩 (원본이 매우 크면 서브샘플링으로 필요한 해상도만 읽음)
+ * - EXIF 방향 적용 후 메타데이터 없이 JPEG으로 다시 인코딩
+ * - 긴 변 기준 본 이미지(max-dimension)와 썸네일(thumbnail-size) 생성
+ * CPU를 많이 쓰므로 제한된 크기의 전용 풀에서만 실행
+ */
+@Service
+@Slf4j
+public class ImageProcessingService {
+    private static final String CONTENT_TYPE = "image/jpeg";
+
+    private final ThreadPoolExecutor executor;
+
+    private final Timer decodeTimer;
+    private final Timer orientTimer;
+    private final Timer resizeTimer;
+    private final Timer encodeTimer;
+
+    @Value("${calendar.image.max-dimension:1920}")
+    private int maxDimension;
+
+    @Value("${calendar.image.thumbnail-size:320}")
+    private int thumbnailSize;
+
+    @Value("${calendar.image.quality:0.85}")
+    private float quality;
+
+    @Value("${calendar.image.thumbnail-quality:0.75}")
+    private float thumbnailQuality;
+
+    public ImageProcessingService(MeterRegistry meterRegistry,
+                                  @Value("${calendar.image.threads:0}") int threads,
+                                  @Value("${calendar.image.queue-capacity:50}") int queueCapacity) {
+        // 기본값: CPU 코어의 절반 (최소 1개)
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-processing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                // 대기열이 가득 찼거나 종료된 풀이면 예외를 던져서 호출한 쪽이 FAILED로 처리
+                // (호출한 스레드는 커밋 직후의 요청 스레드이므로 그 자리에서 변환하지 않음)
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.decodeTimer = stageTimer(meterRegistry, "decode");
+        this.orientTimer = stageTimer(meterRegistry, "orient");
+        this.resizeTimer = stageTimer(meterRegistry, "resize");
+        this.encodeTimer = stageTimer(meterRegistry, "encode");
+    }
+
+    private static Timer stageTimer(MeterRegistry meterRegistry, String stage) {
+        return Timer.builder("image.processing")
+                .tag("stage", stage)
+                .description("Time spent in each calendar photo processing stage")
+                .register(meterRegistry);
+    }
+
+    public CompletableFuture<ProcessedImage> processAsync(Path source) {
+        return CompletableFuture.supplyAsync(() -> process(source), executor);
+    }
+
+    /**
+     * 변환된 이미지 파일 반환, 읽을 수 없는 형식이면 null (원본을 그대로 올림)
+     */
+    public ProcessedImage process(Path source) {
+        BufferedImage decoded = decodeTimer.record(() -> decode(source));
+        if (decoded == null) {
+            return null;
+        }
+
+        BufferedImage oriented = orientTimer.record(() -> applyOrientation(decoded, readOrientation(source)));
+        BufferedImage main = resizeTimer.record(() -> resize(oriented, maxDimension));
+        BufferedImage thumbnail = resizeTimer.record(() -> resize(main, thumbnailSize));
+
+        Path mainFile = encodeTimer.record(() -> encode(main, quality));
+        try {
+            Path thumbnailFile = encodeTimer.record(() -> encode(thumbnail, thumbnailQuality));
+            return new ProcessedImage(mainFile, thumbnailFile, CONTENT_TYPE);
+        } catch (RuntimeException e) {
+            deleteQuietly(mainFile);
+            throw e;
+        }
+    }
+
+    private BufferedImage decode(Path source) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(source.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : null;
+            if (readers == null || !readers.hasNext()) {
+                return null;
+            }
+
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                // 최종 크기의 2배 이상은 읽을 필요가 없으므로 그만큼 건너뛰며 디코딩 (메모리 사용량 감소)
+                int longest = Math.max(reader.getWidth(0), reader.getHeight(0));
+                int subsampling = Math.max(1, longest / (maxDimension * 2));
+                ImageReadParam param = reader.getDefaultReadParam();
+                param.setSourceSubsampling(subsampling, subsampling, 0, 0);
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            log.warn("Unable to decode image {}", source, e);
+            return null;
+        }
+    }
+
+    private int readOrientation(Path source) {
+        try {
+            Metadata metadata = ImageMetadataReader.readMetadata(source.toFile());
+            ExifIFD0Directory directory = metadata.getFirstDirectoryOfType(ExifIFD0Directory.class);
+            if (directory != null && directory.containsTag(ExifIFD0Directory.TAG_ORIENTATION)) {
+                return directory.getInt(ExifIFD0Directory.TAG_ORIENTATION);
+            }
+        } catch (ImageProcessingException | MetadataException | IOException e) {
+            log.debug("No EXIF orientation for {}", source, e);
+        }
+        return 1;
+    }
+
+    // EXIF 방향(1~8)대로 회전/반전한 RGB 이미지 (투명 영역은 흰색)
+    private BufferedImage applyOrientation(BufferedImage image, int orientation) {
+        int width = image.getWidth();
+        int height = image.getHeight();
+        boolean swap = orientation >= 5 && orientation <= 8;
+
+        AffineTransform transform = new AffineTransform();
+        switch (orientation) {
+            case 2 -> {
+                transform.translate(width, 0);
+                transform.scale(-1, 1);
+            }
+            case 3 -> {
+                transform.translate(width, height);
+                transform.rotate(Math.PI);
+            }
+            case 4 -> {
+                transform.translate(0, height);
+                transform.scale(1, -1);
+            }
+            case 5 -> {
+                transform.rotate(-Math.PI / 2);
+                transform.scale(-1, 1);
+            }
+            case 6 -> {
+                transform.translate(height, 0);
+                transform.rotate(Math.PI / 2);
+            }
+            case 7 -> {
+                transform.translate(height, width);
+                transform.rotate(Math.PI / 2);
+                transform.scale(-1, 1);
+            }
+            case 8 -> {
+                transform.translate(0, width);
+                transform.rotate(3 * Math.PI / 2);
+            }
+            default -> {
+            }
+        }
+
+        BufferedImage oriented = new BufferedImage(swap ? height : width, swap ? width : height,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = oriented.createGraphics();
+        try {
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, oriented.getWidth(), oriented.getHeight());
+            graphics.drawImage(image, transform, null);
+        } finally {
+            graphics.dispose();
+        }
+        return oriented;
+    }
+
+    // 긴 변이 maxSize 이하가 되도록 축소 (한 번에 많이 줄이면 품질이 떨어지므로 절반씩 줄인 뒤 맞춤)
+    private BufferedImage resize(BufferedImage image, int maxSize) {
+        double scale = Math.min(1.0, (double) maxSize / Math.max(image.getWidth(), image.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(image.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(image.getHeight() * scale));
+
+        BufferedImage current = image;
+        while (current.getWidth() / 2 >= targetWidth && current.getHeight() / 2 >= targetHeight) {
+            current = draw(current, current.getWidth() / 2, current.getHeight() / 2);
+        }
+        if (current.getWidth() != targetWidth || current.getHeight() != targetHeight) {
+            current = draw(current, targetWidth, targetHeight);
+        }
+        return current;
+    }
+
+    private BufferedImage draw(BufferedImage image, int width, int height) {
+        BufferedImage resized = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = resized.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(image, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return resized;
+    }
+
+    // 메타데이터 없이 JPEG으로 저장
+    private Path encode(BufferedImage image, float quality) {
+        Path file = null;
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        try {
+            file = Files.createTempFile("calendar-photo-", ".jpg");
+            try (ImageOutputStream out = ImageIO.createImageOutputStream(file.toFile())) {
+                writer.setOutput(out);
+                ImageWriteParam param = writer.getDefaultWriteParam();
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+                writer.write(null, new IIOImage(image, null, null), param);
+            }
+            return file;
+        } catch (IOException e) {
+            deleteQuietly(file);
+            throw new UncheckedIOException(e);
+        } finally {
+            writer.dispose();
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file {}", file, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
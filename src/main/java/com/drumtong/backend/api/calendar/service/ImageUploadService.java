@@ -1,22 +1,68 @@
 package com.drumtong.backend.api.calendar.service;
 
-import lombok.RequiredArgsConstructor;
+import com.drumtong.backend.api.calendar.dto.ProcessedImage;
+import com.drumtong.backend.api.calendar.dto.StagedImage;
+import com.drumtong.backend.api.calendar.entity.PhotoStatus;
+import com.drumtong.backend.api.calendar.repository.CalendarEntryRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
-import software.amazon.awssdk.core.sync.RequestBody;
-import software.amazon.awssdk.services.s3.S3Client;
-import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
-import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * 캘린더 사진 업로드
+ * - 요청 처리 중에는 임시 파일로 옮기고 URL만 정해서 항목을 PENDING 상태로 저장 (stage)
+ * - 트랜잭션 커밋 후 ImageProcessingService에서 축소/썸네일 생성
+ * - 제한된 크기의 업로드 풀에서 PhotoStorage(S3)로 전송
+ * - 업로드가 끝나면 같은 URL을 쓰는 항목의 상태를 READY/FAILED로 변경
+ *   (풀이 가득 찼거나 서버 종료 중이라 풀에 넣지 못한 사진도 FAILED로 표시하고 임시 파일 삭제)
+ * - 커밋 후 업로드 전에 서버가 종료되어 PENDING으로 남은 사진은 ImageUploadTimeoutJob이 FAILED로 변경
+ */
 @Service
-@RequiredArgsConstructor
+@Slf4j
 public class ImageUploadService {
+    // 변환하지 못한 원본을 올릴 때 쓰는 확장자 (목록에 없는 형식은 확장자 없음)
+    private static final Map<String, String> ORIGINAL_EXTENSIONS = Map.of(
+            "image/jpeg", ".jpg",
+            "image/png", ".png",
+            "image/gif", ".gif",
+            "image/webp", ".webp",
+            "image/heic", ".heic",
+            "image/heif", ".heif",
+            "image/bmp", ".bmp",
+            "image/tiff", ".tiff");
 
-    private final S3Client s3Client;
+    private final PhotoStorage photoStorage;
+    private final ImageProcessingService imageProcessingService;
+    private final CalendarEntryRepository calendarEntryRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor executor;
+
+    private final Timer uploadSuccessTimer;
+    private final Timer uploadFailureTimer;
+    private final Counter rejectedCounter;
+    private final Counter staleCounter;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucketName;
@@ -24,38 +70,235 @@ public class ImageUploadService {
     @Value("${cloud.aws.s3.domain}")
     private String domain;
 
-    public String upload(MultipartFile file) {
-        String originalFilename = file.getOriginalFilename();
-        String key = UUID.randomUUID() + "_" + originalFilename;
+    // 이 서버가 만드는 사진 객체는 모두 이 prefix 아래에 저장 (고아 객체 정리도 이 prefix 안에서만)
+    @Value("${cloud.aws.s3.key-prefix:calendar/}")
+    private String keyPrefix;
 
-        try {
-            PutObjectRequest putObjectRequest = PutObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .acl("public-read")
-                    .build();
+    public ImageUploadService(PhotoStorage photoStorage,
+                              ImageProcessingService imageProcessingService,
+                              CalendarEntryRepository calendarEntryRepository,
+                              TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry,
+                              @Value("${cloud.aws.s3.upload.threads:4}") int threads,
+                              @Value("${cloud.aws.s3.upload.queue-capacity:100}") int queueCapacity) {
+        this.photoStorage = photoStorage;
+        this.imageProcessingService = imageProcessingService;
+        this.calendarEntryRepository = calendarEntryRepository;
+        this.transactionTemplate = transactionTemplate;
 
-            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(
-                    file.getInputStream(), file.getSize()));
+        // 대기열이 가득 찼거나 종료된 풀이면 예외를 던져서 submitUpload에서 FAILED로 처리
+        // (호출한 스레드는 요청/변환 스레드이므로 그 자리에서 업로드하지 않음)
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-upload-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
 
-            return domain + "/" + bucketName + "/" + key;
+        this.uploadSuccessTimer = Timer.builder("image.upload")
+                .tag("result", "success")
+                .description("Time spent uploading calendar photos to S3")
+                .register(meterRegistry);
+        this.uploadFailureTimer = Timer.builder("image.upload")
+                .tag("result", "failure")
+                .description("Time spent uploading calendar photos to S3")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("image.upload.rejected")
+                .description("Calendar photos marked FAILED because the processing or upload pool was full")
+                .register(meterRegistry);
+        this.staleCounter = Counter.builder("image.upload.stale")
+                .description("Calendar photos marked FAILED after staying PENDING too long")
+                .register(meterRegistry);
+        Gauge.builder("image.upload.queue.size", executor, pool -> pool.getQueue().size())
+                .description("Calendar photos waiting to be uploaded")
+                .register(meterRegistry);
+        Gauge.builder("image.upload.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Calendar photo uploads in progress")
+                .register(meterRegistry);
+    }
 
+    /**
+     * 요청의 이미지를 임시 파일로 옮기고 업로드될 key/URL을 정함 (S3 호출 없음)
+     * 이미지가 없으면 null
+     */
+    public StagedImage stage(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            return null;
+        }
+
+        // 변환 후에는 JPEG이므로 원본 파일명 대신 고정된 확장자 사용
+        String id = keyPrefix + "photos/" + UUID.randomUUID();
+        String key = id + ".jpg";
+        String thumbnailKey = id + "_thumb.jpg";
+        String originalKey = id + originalExtension(file.getContentType());
+        Path tempFile = null;
+        try {
+            tempFile = Files.createTempFile("calendar-photo-", ".upload");
+            file.transferTo(tempFile);
+            return new StagedImage(key, urlOf(key), thumbnailKey, urlOf(thumbnailKey),
+                    originalKey, urlOf(originalKey), tempFile, file.getContentType(), Files.size(tempFile));
         } catch (IOException e) {
+            deleteQuietly(tempFile);
             throw new RuntimeException("이미지 업로드 실패", e);
         }
     }
 
-    public void delete(String fileUrl) {
+    private static String originalExtension(String contentType) {
+        if (contentType == null) {
+            return "";
+        }
+        String normalized = contentType.split(";")[0].trim().toLowerCase(Locale.ROOT);
+        return ORIGINAL_EXTENSIONS.getOrDefault(normalized, "");
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋되면 백그라운드로 업로드 (롤백되면 임시 파일만 삭제)
+     */
+    public void uploadAfterCommit(StagedImage image) {
+        if (image == null) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            processAndUpload(image);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                processAndUpload(image);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                if (status != STATUS_COMMITTED) {
+                    deleteQuietly(image.getFile());
+                }
+            }
+        });
+    }
+
+    // 변환은 처리 풀에서, 업로드는 업로드 풀에서 실행 (처리 풀이 가득 차면 바로 FAILED)
+    private void processAndUpload(StagedImage image) {
+        try {
+            imageProcessingService.processAsync(image.getFile())
+                    .whenComplete((processed, error) -> submitUpload(image, processed, error));
+        } catch (RejectedExecutionException e) {
+            reject(image, null, e);
+        }
+    }
+
+    private void submitUpload(StagedImage image, ProcessedImage processed, Throwable processingError) {
+        try {
+            executor.execute(() -> upload(image, processed, processingError));
+        } catch (RejectedExecutionException e) {
+            reject(image, processed, e);
+        }
+    }
+
+    // 풀에 넣지 못한 사진은 PENDING으로 남기지 않고 FAILED로 표시
+    private void reject(StagedImage image, ProcessedImage processed, RejectedExecutionException e) {
+        rejectedCounter.increment();
+        log.error("Image upload rejected: {}", image.getKey(), e);
+        deleteTempFiles(image, processed);
+        markStatus(image, image.getUrl(), PhotoStatus.FAILED, null);
+    }
+
+    private void upload(StagedImage image, ProcessedImage processed, Throwable processingError) {
+        if (processingError != null) {
+            log.warn("Image processing failed, uploading original: {}", image.getKey(), processingError);
+        }
+
+        long startedAt = System.nanoTime();
+        boolean uploaded = false;
+        try {
+            if (processed != null) {
+                photoStorage.put(image.getKey(), processed.getMainFile(), processed.getContentType());
+                photoStorage.put(image.getThumbnailKey(), processed.getThumbnailFile(), processed.getContentType());
+            } else {
+                // 변환할 수 없는 형식은 원본 그대로 올리고 썸네일 없음
+                photoStorage.put(image.getOriginalKey(), image.getFile(), image.getContentType());
+            }
+            uploaded = true;
+        } catch (IOException | RuntimeException e) {
+            log.error("S3 upload failed: {}", image.getKey(), e);
+        } finally {
+            deleteTempFiles(image, processed);
+            (uploaded ? uploadSuccessTimer : uploadFailureTimer)
+                    .record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+        }
+
+        if (!uploaded) {
+            markStatus(image, image.getUrl(), PhotoStatus.FAILED, null);
+        } else if (processed != null) {
+            markStatus(image, image.getUrl(), PhotoStatus.READY, image.getThumbnailUrl());
+        } else {
+            markStatus(image, image.getOriginalUrl(), PhotoStatus.READY, null);
+        }
+    }
+
+    private void markStatus(StagedImage image, String uploadedUrl, PhotoStatus status, String thumbnailUrl) {
+        try {
+            transactionTemplate.executeWithoutResult(tx ->
+                    calendarEntryRepository.updateUploadedPhoto(image.getUrl(), uploadedUrl, status, thumbnailUrl));
+        } catch (RuntimeException e) {
+            log.error("Failed to mark photo {} as {}", image.getKey(), status, e);
+        }
+    }
+
+    /**
+     * 지정된 지 staleBefore보다 오래됐는데 아직 PENDING인 사진을 FAILED로 변경
+     * (커밋 후 업로드 전에 서버가 종료되면 임시 파일이 없어져서 다시 올릴 수 없음)
+     */
+    public int failStaleUploads(LocalDateTime staleBefore) {
+        Integer failed = transactionTemplate.execute(tx ->
+                calendarEntryRepository.failStalePhotos(PhotoStatus.PENDING, PhotoStatus.FAILED, staleBefore));
+        int count = failed != null ? failed : 0;
+        staleCounter.increment(count);
+        return count;
+    }
+
+    public String getKeyPrefix() {
+        return keyPrefix;
+    }
+
+    public String urlOf(String key) {
+        return domain + "/" + bucketName + "/" + key;
+    }
+
+    // 이 버킷의 URL이 아니면 null
+    public String keyOf(String url) {
         String prefix = domain + "/" + bucketName + "/";
-        if (fileUrl != null && fileUrl.startsWith(prefix)) {
-            String key = fileUrl.substring(prefix.length());
-            DeleteObjectRequest deleteObjectRequest = DeleteObjectRequest.builder()
-                    .bucket(bucketName)
-                    .key(key)
-                    .build();
-            s3Client.deleteObject(deleteObjectRequest);
-        }
-        else
-            System.out.println("s3 삭제 실패");
-    }
-}
\ No newline at end of file
+        if (url == null || !url.startsWith(prefix)) {
+            return null;
+        }
+        return url.substring(prefix.length());
+    }
+
+    private void deleteTempFiles(StagedImage image, ProcessedImage processed) {
+        deleteQuietly(image.getFile());
+        if (processed != null) {
+            deleteQuietly(processed.getMainFile());
+            deleteQuietly(processed.getThumbnailFile());
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file {}", file, e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
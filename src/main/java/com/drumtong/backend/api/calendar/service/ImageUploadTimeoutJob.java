@@ -0,0 +1,35 @@
+package com.drumtong.backend.api.calendar.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+/**
+ * 업로드 결과 없이 오래 PENDING으로 남은 캘린더 사진 정리 작업
+ * - 커밋 후 업로드 전에 서버가 종료된 사진은 stale-after-minutes가 지나면 FAILED로 변경
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ImageUploadTimeoutJob {
+    private final ImageUploadService imageUploadService;
+
+    @Value("${cloud.aws.s3.upload.stale-after-minutes:30}")
+    private long staleAfterMinutes;
+
+    @Scheduled(fixedDelayString = "${cloud.aws.s3.upload.stale-check-delay-ms:300000}")
+    public void failStaleUploads() {
+        try {
+            int failed = imageUploadService.failStaleUploads(LocalDateTime.now().minusMinutes(staleAfterMinutes));
+            if (failed > 0) {
+                log.warn("Marked {} calendar photos stuck in PENDING as FAILED", failed);
+            }
+        } catch (Exception e) {
+            log.error("Stale calendar photo check failed", e);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.drumtong.backend.api.calendar.service;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 캘린더 사진 저장소 (운영은 S3PhotoStorage, 테스트는 메모리 구현)
+ */
+public interface PhotoStorage {
+
+    /**
+     * 파일을 key에 공개 읽기 가능한 객체로 저장 (같은 key가 있으면 덮어씀)
+     */
+    void put(String key, Path file, String contentType) throws IOException;
+}
@@ -0,0 +1,265 @@
+package com.drumtong.backend.api.calendar.service;
+
+import com.drumtong.backend.api.calendar.dto.PhotoUploadUrlRequestDto;
+import com.drumtong.backend.api.calendar.dto.PhotoUploadUrlResponseDto;
+import com.drumtong.backend.api.calendar.entity.CalendarEntry;
+import com.drumtong.backend.api.calendar.entity.PhotoStatus;
+import com.drumtong.backend.api.calendar.repository.CalendarEntryRepository;
+import com.drumtong.backend.common.exception.BadRequestException;
+import com.drumtong.backend.common.exception.NotFoundException;
+import com.drumtong.backend.common.response.ErrorStatus;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectResponse;
+import software.amazon.awssdk.services.s3.model.MetadataDirective;
+import software.amazon.awssdk.services.s3.model.ObjectCannedACL;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+import software.amazon.awssdk.services.s3.presigner.model.PresignedPutObjectRequest;
+import software.amazon.awssdk.services.s3.presigner.model.PutObjectPresignRequest;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 캘린더 사진 S3 직접 업로드
+ * - issueUploadUrl: 형식/크기를 서명에 포함한 presigned PUT URL 발급 (사용자별 {key-prefix}uploads/{memberId}/ 아래 비공개 key)
+ * - attachPhoto: 업로드된 객체의 크기/Content-Type/파일 시그니처를 확인한 뒤
+ *   확인한 버전(ETag)만 서버 소유 {key-prefix}photos/ 아래로 복사(CopyObject)해서 항목에 연결하고 업로드 key는 삭제
+ *   (클라이언트가 확인 후 같은 key에 다시 올려도 항목의 사진은 바뀌지 않음)
+ * 사진 데이터는 서버를 거치지 않음 (연결되지 않은 객체는 ImageOrphanSweepJob이 정리)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PhotoUploadService {
+    // 허용하는 형식과 key 확장자
+    private static final Map<String, String> EXTENSIONS = Map.of(
+            "image/jpeg", "jpg",
+            "image/png", "png",
+            "image/webp", "webp",
+            "image/heic", "heic");
+
+    // HEIC로 인정하는 ftyp major brand
+    private static final Set<String> HEIC_BRANDS = Set.of("heic", "heix", "mif1", "msf1");
+
+    private final S3Client s3Client;
+    private final S3Presigner s3Presigner;
+    private final ImageUploadService imageUploadService;
+    private final ImageCleanupService imageCleanupService;
+    private final CalendarEntryRepository calendarEntryRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${cloud.aws.s3.presign.max-size-bytes:20971520}")
+    private long maxSizeBytes;
+
+    @Value("${cloud.aws.s3.presign.expiry-seconds:300}")
+    private long expirySeconds;
+
+    public PhotoUploadUrlResponseDto issueUploadUrl(Long memberId, PhotoUploadUrlRequestDto dto) {
+        String contentType = normalize(dto.getContentType());
+        String extension = EXTENSIONS.get(contentType);
+        if (extension == null) {
+            throw new BadRequestException(ErrorStatus.INVALID_PHOTO_TYPE_EXCEPTION.getMessage());
+        }
+        validateSize(dto.getContentLength());
+
+        String key = uploadPrefix(memberId) + UUID.randomUUID() + "." + extension;
+        PresignedPutObjectRequest presigned = s3Presigner.presignPutObject(PutObjectPresignRequest.builder()
+                .signatureDuration(Duration.ofSeconds(expirySeconds))
+                .putObjectRequest(PutObjectRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .contentType(contentType)
+                        .contentLength(dto.getContentLength())
+                        .build())
+                .build());
+
+        // 클라이언트가 PUT 요청에 그대로 붙여야 하는 헤더 (host는 URL에 포함)
+        Map<String, String> headers = new LinkedHashMap<>();
+        presigned.signedHeaders().forEach((name, values) -> {
+            if (!"host".equalsIgnoreCase(name)) {
+                headers.put(name, String.join(",", values));
+            }
+        });
+
+        return new PhotoUploadUrlResponseDto(key, presigned.url().toString(), headers, presigned.expiration());
+    }
+
+    /**
+     * 업로드된 객체를 검증하고 서버 소유 key로 복사해서 항목(그룹 항목이면 멤버 복사본 포함)의 사진으로 연결
+     * 기존 사진은 커밋 후 정리
+     */
+    public void attachPhoto(Long memberId, Long entryId, String key) {
+        if (key == null || !key.startsWith(uploadPrefix(memberId)) || key.contains("..")) {
+            throw new BadRequestException(ErrorStatus.INVALID_PHOTO_KEY_EXCEPTION.getMessage());
+        }
+
+        // S3 확인/복사는 트랜잭션 밖에서, 모두 HEAD로 확인한 버전(ETag)에 대해서만 실행
+        HeadObjectResponse head = headObject(key);
+        String contentType = normalize(head.contentType());
+        if (!EXTENSIONS.containsKey(contentType) || !matchesSignature(contentType, readHeader(key, head.eTag()))) {
+            throw new BadRequestException(ErrorStatus.INVALID_PHOTO_TYPE_EXCEPTION.getMessage());
+        }
+        validateSize(head.contentLength());
+
+        String photoKey = imageUploadService.getKeyPrefix() + "photos/" + UUID.randomUUID() + "." + EXTENSIONS.get(contentType);
+        copyVerified(key, head.eTag(), photoKey, contentType);
+
+        String photoUrl = imageUploadService.urlOf(photoKey);
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                CalendarEntry entry = calendarEntryRepository.findById(entryId)
+                        .filter(found -> memberId.equals(found.getUserId()))
+                        .orElseThrow(() -> new NotFoundException(ErrorStatus.CALENDAR_ENTRY_NOT_FOUND_EXCEPTION.getMessage()));
+
+                List<CalendarEntry> targets = entry.getGroupEntryId() != null
+                        ? calendarEntryRepository.findByGroupEntryId(entry.getGroupEntryId())
+                        : List.of(entry);
+                imageCleanupService.releaseAfterCommit(targets);
+
+                // 직접 업로드한 사진은 서버에서 변환하지 않으므로 썸네일 없음
+                for (CalendarEntry target : targets) {
+                    target.setPhotoUrl(photoUrl);
+                    target.setPhotoStatus(PhotoStatus.READY);
+                    target.setThumbnailUrl(null);
+                }
+            });
+        } catch (RuntimeException e) {
+            // 연결하지 못한 복사본은 바로 삭제 (업로드 key는 다시 시도할 수 있도록 남겨 둠)
+            deleteQuietly(photoKey);
+            throw e;
+        }
+
+        deleteQuietly(key);
+    }
+
+    // 확인한 버전이 그대로일 때만 복사 (그 사이 다시 올렸으면 412)
+    private void copyVerified(String sourceKey, String eTag, String destinationKey, String contentType) {
+        try {
+            s3Client.copyObject(CopyObjectRequest.builder()
+                    .sourceBucket(bucketName)
+                    .sourceKey(sourceKey)
+                    .copySourceIfMatch(eTag)
+                    .destinationBucket(bucketName)
+                    .destinationKey(destinationKey)
+                    .metadataDirective(MetadataDirective.REPLACE)
+                    .contentType(contentType)
+                    .acl(ObjectCannedACL.PUBLIC_READ)
+                    .build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 412) {
+                throw new BadRequestException(ErrorStatus.PHOTO_CHANGED_EXCEPTION.getMessage());
+            }
+            if (e.statusCode() == 404) {
+                throw new NotFoundException(ErrorStatus.PHOTO_NOT_FOUND_EXCEPTION.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    // 남은 객체는 ImageOrphanSweepJob이 정리하므로 실패해도 요청은 성공으로 처리
+    private void deleteQuietly(String key) {
+        try {
+            s3Client.deleteObject(DeleteObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (RuntimeException e) {
+            log.warn("Failed to delete photo object {}", key, e);
+        }
+    }
+
+    private HeadObjectResponse headObject(String key) {
+        try {
+            return s3Client.headObject(HeadObjectRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .build());
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                throw new NotFoundException(ErrorStatus.PHOTO_NOT_FOUND_EXCEPTION.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    // 파일 앞부분만 읽어서 실제 형식 확인 (HEAD로 확인한 버전이 아니면 412)
+    private byte[] readHeader(String key, String eTag) {
+        try {
+            return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .ifMatch(eTag)
+                            .range("bytes=0-15")
+                            .build())
+                    .asByteArray();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 412) {
+                throw new BadRequestException(ErrorStatus.PHOTO_CHANGED_EXCEPTION.getMessage());
+            }
+            throw e;
+        }
+    }
+
+    private boolean matchesSignature(String contentType, byte[] header) {
+        return switch (contentType) {
+            case "image/jpeg" -> startsWith(header, 0, new byte[]{(byte) 0xFF, (byte) 0xD8, (byte) 0xFF});
+            case "image/png" -> startsWith(header, 0, new byte[]{(byte) 0x89, 'P', 'N', 'G'});
+            case "image/webp" -> startsWith(header, 0, ascii("RIFF")) && startsWith(header, 8, ascii("WEBP"));
+            case "image/heic" -> startsWith(header, 4, ascii("ftyp")) && HEIC_BRANDS.contains(majorBrand(header));
+            default -> false;
+        };
+    }
+
+    // ftyp box의 major brand (8~11번째 바이트)
+    private static String majorBrand(byte[] header) {
+        if (header.length < 12) {
+            return "";
+        }
+        return new String(header, 8, 4, StandardCharsets.US_ASCII);
+    }
+
+    private static boolean startsWith(byte[] data, int offset, byte[] prefix) {
+        if (data.length < offset + prefix.length) {
+            return false;
+        }
+        for (int i = 0; i < prefix.length; i++) {
+            if (data[offset + i] != prefix[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private void validateSize(Long contentLength) {
+        if (contentLength == null || contentLength <= 0 || contentLength > maxSizeBytes) {
+            throw new BadRequestException(ErrorStatus.INVALID_PHOTO_SIZE_EXCEPTION.getMessage());
+        }
+    }
+
+    private static String normalize(String contentType) {
+        return contentType == null ? "" : contentType.split(";")[0].trim().toLowerCase(Locale.ROOT);
+    }
+
+    private String uploadPrefix(Long memberId) {
+        return imageUploadService.getKeyPrefix() + "uploads/" + memberId + "/";
+    }
+}
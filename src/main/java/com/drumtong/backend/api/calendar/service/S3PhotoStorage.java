@@ -0,0 +1,100 @@
+package com.drumtong.backend.api.calendar.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * S3 사진 저장소
+ * - multipart-threshold-bytes 이상인 파일은 multipart로 나눠서 전송
+ */
+@Component
+@RequiredArgsConstructor
+public class S3PhotoStorage implements PhotoStorage {
+    // S3 multipart 최소 part 크기
+    private static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucketName;
+
+    @Value("${cloud.aws.s3.upload.multipart-threshold-bytes:8388608}")
+    private long multipartThreshold;
+
+    @Value("${cloud.aws.s3.upload.part-size-bytes:8388608}")
+    private int partSize;
+
+    @Override
+    public void put(String key, Path file, String contentType) throws IOException {
+        if (Files.size(file) >= multipartThreshold) {
+            uploadMultipart(key, file, contentType);
+        } else {
+            s3Client.putObject(PutObjectRequest.builder()
+                            .bucket(bucketName)
+                            .key(key)
+                            .acl("public-read")
+                            .contentType(contentType)
+                            .build(),
+                    RequestBody.fromFile(file));
+        }
+    }
+
+    // 파일을 part 단위로 나눠서 전송 (한 번에 part 하나만 메모리에 올림), 실패하면 업로드 취소
+    private void uploadMultipart(String key, Path file, String contentType) throws IOException {
+        String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+                        .bucket(bucketName)
+                        .key(key)
+                        .acl("public-read")
+                        .contentType(contentType)
+                        .build())
+                .uploadId();
+
+        int chunkSize = Math.max(MIN_PART_SIZE, partSize);
+        try (InputStream in = Files.newInputStream(file)) {
+            List<CompletedPart> parts = new ArrayList<>();
+            byte[] buffer = new byte[chunkSize];
+            int read;
+            while ((read = in.readNBytes(buffer, 0, chunkSize)) > 0) {
+                int partNumber = parts.size() + 1;
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                                .bucket(bucketName)
+                                .key(key)
+                                .uploadId(uploadId)
+                                .partNumber(partNumber)
+                                .contentLength((long) read)
+                                .build(),
+                        RequestBody.fromByteBuffer(ByteBuffer.wrap(buffer, 0, read)));
+                parts.add(CompletedPart.builder()
+                        .partNumber(partNumber)
+                        .eTag(response.eTag())
+                        .build());
+            }
+
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+                    .build());
+        } catch (IOException | RuntimeException e) {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                    .bucket(bucketName)
+                    .key(key)
+                    .uploadId(uploadId)
+                    .build());
+            throw e;
+        }
+    }
+}
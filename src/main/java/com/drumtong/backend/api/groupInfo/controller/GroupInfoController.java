@@ -1,6 +1,8 @@
 package com.drumtong.backend.api.groupInfo.controller;
 
 import com.drumtong.backend.api.groupInfo.dto.GroupInfoDto;
+import com.drumtong.backend.api.groupInfo.dto.GroupInfoPageDto;
+import com.drumtong.backend.api.groupInfo.dto.GroupInfoSort;
 import com.drumtong.backend.api.groupInfo.service.GroupInfoCommandService;
 import com.drumtong.backend.api.groupInfo.service.GroupInfoQueryService;
 import com.drumtong.backend.common.config.security.SecurityMember;
@@ -112,6 +114,24 @@ public class GroupInfoController {
     public ResponseEntity<ApiResponse<List<GroupInfoDto>>> findAll() {
         return ApiResponse.success(SuccessStatus.GET_GROUP_INFO_LIST_SUCCESS, queryService.findAll());
     }
+
+    /**
+     * 그룹 탐색 페이지 조회
+     * @param q 그룹 이름 검색어 (3글자 이상이면 부분 일치, 짧으면 접두어 일치)
+     * @param sort 정렬 기준 (기본 RECENT_ACTIVITY)
+     * @param cursor 이전 페이지의 nextCursor
+     * @return 조회된 그룹 정보 페이지
+     */
+    @GetMapping("/page")
+    @Operation(summary = "그룹 탐색 페이지 조회 (이름 검색, 최근 활동/그룹원 수 정렬, cursor 기반)")
+    public ResponseEntity<ApiResponse<GroupInfoPageDto>> findPage(
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) GroupInfoSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ApiResponse.success(SuccessStatus.GET_GROUP_INFO_LIST_SUCCESS,
+                queryService.findPage(q, sort, cursor, size));
+    }
     @GetMapping("/my-leading-groups")
     @Operation(summary = "내가 리더인 그룹 목록 조회")
     public ResponseEntity<ApiResponse<List<GroupInfoDto>>> getMyLeadingGroups(
@@ -126,4 +146,15 @@ public class GroupInfoController {
         return ApiResponse.success(SuccessStatus.GET_GROUP_INFO_SUCCESS,
                 queryService.findGroupsNotJoinedByMember(securityMember.getId()));
     }
+    @GetMapping("/not-joined-groups/page")
+    @Operation(summary = "내가 아직 가입하지 않은 그룹 탐색 페이지 조회 (이름 검색, 최근 활동/그룹원 수 정렬, cursor 기반)")
+    public ResponseEntity<ApiResponse<GroupInfoPageDto>> getNotJoinedGroupsPage(
+            @AuthenticationPrincipal SecurityMember securityMember,
+            @RequestParam(required = false) String q,
+            @RequestParam(required = false) GroupInfoSort sort,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Integer size) {
+        return ApiResponse.success(SuccessStatus.GET_GROUP_INFO_LIST_SUCCESS,
+                queryService.findNotJoinedPage(securityMember.getId(), q, sort, cursor, size));
+    }
 }
@@ -0,0 +1,68 @@
+package com.drumtong.backend.api.groupInfo.dto;
+
+import com.drumtong.backend.api.groupInfo.entity.GroupInfo;
+import com.drumtong.backend.common.exception.BadRequestException;
+import com.drumtong.backend.common.response.ErrorStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 그룹 탐색 목록 페이지 커서 (정렬 기준, 마지막으로 조회한 그룹의 정렬 값, id)
+ * 클라이언트에는 Base64 문자열로만 전달
+ */
+@Getter
+@AllArgsConstructor
+public class GroupInfoCursor {
+    // 첫 페이지 조회용 정렬 값 (모든 그룹보다 뒤)
+    private static final int FIRST_MEMBER_COUNT = Integer.MAX_VALUE;
+    private static final LocalDateTime FIRST_LAST_ACTIVITY_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+    private static final String SEPARATOR = ",";
+
+    private final GroupInfoSort sort;
+    private final Integer memberCount;
+    private final LocalDateTime lastActivityAt;
+    private final Long id;
+
+    public static GroupInfoCursor first(GroupInfoSort sort) {
+        return new GroupInfoCursor(sort, FIRST_MEMBER_COUNT, FIRST_LAST_ACTIVITY_AT, Long.MAX_VALUE);
+    }
+
+    public static GroupInfoCursor of(GroupInfoSort sort, GroupInfo group) {
+        return new GroupInfoCursor(sort, group.getMemberCount(), group.getLastActivityAt(), group.getId());
+    }
+
+    public String encode() {
+        String value = sort == GroupInfoSort.MEMBER_COUNT ? String.valueOf(memberCount) : lastActivityAt.toString();
+        String raw = sort.name() + SEPARATOR + value + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // 다른 정렬 기준으로 만든 커서는 사용할 수 없음
+    public static GroupInfoCursor decode(String cursor, GroupInfoSort sort) {
+        if (cursor == null || cursor.isBlank()) {
+            return first(sort);
+        }
+
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split(SEPARATOR);
+            if (parts.length != 3 || !sort.name().equals(parts[0])) {
+                throw new BadRequestException(ErrorStatus.INVALID_PAGE_CURSOR_EXCEPTION.getMessage());
+            }
+
+            long id = Long.parseLong(parts[2]);
+            if (sort == GroupInfoSort.MEMBER_COUNT) {
+                return new GroupInfoCursor(sort, Integer.parseInt(parts[1]), FIRST_LAST_ACTIVITY_AT, id);
+            }
+            return new GroupInfoCursor(sort, FIRST_MEMBER_COUNT, LocalDateTime.parse(parts[1]), id);
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new BadRequestException(ErrorStatus.INVALID_PAGE_CURSOR_EXCEPTION.getMessage());
+        }
+    }
+}
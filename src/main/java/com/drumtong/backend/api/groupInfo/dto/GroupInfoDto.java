@@ -1,8 +1,10 @@
 package com.drumtong.backend.api.groupInfo.dto;
 
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 @Data
+@NoArgsConstructor
 public class GroupInfoDto {
     private Long id;
     private Long leaderId;
@@ -10,4 +12,14 @@ public class GroupInfoDto {
     private String description;
     private Integer totalPaid;
     private Integer memberCount; // 그룹원 수 필드 추가
+
+    // JPQL 생성자 프로젝션용
+    public GroupInfoDto(Long id, Long leaderId, String name, String description, Integer totalPaid, Integer memberCount) {
+        this.id = id;
+        this.leaderId = leaderId;
+        this.name = name;
+        this.description = description;
+        this.totalPaid = totalPaid;
+        this.memberCount = memberCount;
+    }
 }
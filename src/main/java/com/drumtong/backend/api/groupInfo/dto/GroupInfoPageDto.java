@@ -0,0 +1,18 @@
+package com.drumtong.backend.api.groupInfo.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 그룹 탐색 목록의 한 페이지
+ * 다음 페이지는 nextCursor를 cursor 파라미터로 (같은 sort, q와 함께) 전달해서 조회
+ */
+@Getter
+@AllArgsConstructor
+public class GroupInfoPageDto {
+    private List<GroupInfoDto> groups;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,11 @@
+package com.drumtong.backend.api.groupInfo.dto;
+
+/**
+ * 그룹 탐색 목록 정렬 기준 (모두 내림차순, 같으면 id 내림차순)
+ */
+public enum GroupInfoSort {
+    // 최근 그룹 항목이 작성된 순
+    RECENT_ACTIVITY,
+    // 그룹원이 많은 순
+    MEMBER_COUNT
+}
@@ -7,6 +7,8 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
+import java.time.LocalDateTime;
+
 @Entity
 @Table(name = "group_info")
 @Getter
@@ -26,13 +28,25 @@ public class GroupInfo {
 
     private String description;
 
-    @Column(columnDefinition = "integer default 0")
+    // 그룹 누적 결제 금액 (GroupInfoRepository.addTotalPaid로만 증감, 엔티티 수정 시에는 덮어쓰지 않음)
+    @Column(columnDefinition = "integer default 0", updatable = false)
     private Integer totalPaid;
 
-    public void update(Long leaderId, String name, String description, Integer totalPaid) {
+    // 그룹원 수 (GroupInfoRepository.addMemberCount로만 증감, 엔티티 수정 시에는 덮어쓰지 않음)
+    @Column(nullable = false, updatable = false)
+    private Integer memberCount;
+
+    // 그룹원 변경 버전 (addMemberCount와 같은 UPDATE에서 증가, GroupMembershipIndex 캐시 검증용)
+    @Column(nullable = false, updatable = false)
+    private long membershipVersion;
+
+    // 마지막 그룹 항목 작성 시각 (GroupInfoRepository.touchLastActivity로만 갱신)
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime lastActivityAt;
+
+    public void update(Long leaderId, String name, String description) {
         this.leaderId = leaderId;
         this.name = name;
         this.description = description;
-        this.totalPaid = totalPaid;
     }
 }
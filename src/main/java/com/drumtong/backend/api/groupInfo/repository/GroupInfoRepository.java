@@ -1,10 +1,100 @@
 package com.drumtong.backend.api.groupInfo.repository;
 
 import com.drumtong.backend.api.groupInfo.entity.GroupInfo;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface GroupInfoRepository extends JpaRepository<GroupInfo, Long> {
     Optional<GroupInfo> findByName(@Param("name") String name);
+    // 그룹 이름은 유니크하지 않으므로 같은 이름이 여러 개면 가장 먼저 만든 그룹
+    Optional<GroupInfo> findFirstByNameOrderByIdAsc(String name);
+    List<GroupInfo> findAllByLeaderIdOrderByIdAsc(Long leaderId);
+
+    // 멤버가 가입하지 않은 그룹 (group_members (group_id, member_id) 유니크 인덱스로 anti-join)
+    @Query("select g from GroupInfo g " +
+            "where not exists (select 1 from GroupMember gm where gm.groupId = g.id and gm.memberId = :memberId) " +
+            "order by g.id")
+    List<GroupInfo> findAllNotJoinedByMemberId(@Param("memberId") Long memberId);
+
+    // 그룹 탐색 페이지 (그룹원 수 내림차순 keyset)
+    // 검색어 유무에 따라 쿼리를 나눔 (':pattern is null or ...' 조건은 generic plan에서 이름 인덱스를 못 씀)
+    // excludeJoined: memberId가 가입한 그룹 제외
+    @Query("select g from GroupInfo g " +
+            "where (:excludeJoined = false or not exists " +
+            "       (select 1 from GroupMember gm where gm.groupId = g.id and gm.memberId = :memberId)) " +
+            "  and (g.memberCount < :cursorCount or (g.memberCount = :cursorCount and g.id < :cursorId)) " +
+            "order by g.memberCount desc, g.id desc")
+    List<GroupInfo> findPageByMemberCount(@Param("excludeJoined") boolean excludeJoined,
+                                          @Param("memberId") Long memberId,
+                                          @Param("cursorCount") Integer cursorCount,
+                                          @Param("cursorId") Long cursorId,
+                                          Pageable pageable);
+
+    // pattern: 소문자 LIKE 패턴 ('!' escape)
+    @Query("select g from GroupInfo g " +
+            "where lower(g.name) like :pattern escape '!' " +
+            "  and (:excludeJoined = false or not exists " +
+            "       (select 1 from GroupMember gm where gm.groupId = g.id and gm.memberId = :memberId)) " +
+            "  and (g.memberCount < :cursorCount or (g.memberCount = :cursorCount and g.id < :cursorId)) " +
+            "order by g.memberCount desc, g.id desc")
+    List<GroupInfo> findPageByMemberCountAndName(@Param("pattern") String pattern,
+                                                 @Param("excludeJoined") boolean excludeJoined,
+                                                 @Param("memberId") Long memberId,
+                                                 @Param("cursorCount") Integer cursorCount,
+                                                 @Param("cursorId") Long cursorId,
+                                                 Pageable pageable);
+
+    // 그룹 탐색 페이지 (최근 활동 내림차순 keyset)
+    @Query("select g from GroupInfo g " +
+            "where (:excludeJoined = false or not exists " +
+            "       (select 1 from GroupMember gm where gm.groupId = g.id and gm.memberId = :memberId)) " +
+            "  and (g.lastActivityAt < :cursorAt or (g.lastActivityAt = :cursorAt and g.id < :cursorId)) " +
+            "order by g.lastActivityAt desc, g.id desc")
+    List<GroupInfo> findPageByLastActivity(@Param("excludeJoined") boolean excludeJoined,
+                                           @Param("memberId") Long memberId,
+                                           @Param("cursorAt") LocalDateTime cursorAt,
+                                           @Param("cursorId") Long cursorId,
+                                           Pageable pageable);
+
+    @Query("select g from GroupInfo g " +
+            "where lower(g.name) like :pattern escape '!' " +
+            "  and (:excludeJoined = false or not exists " +
+            "       (select 1 from GroupMember gm where gm.groupId = g.id and gm.memberId = :memberId)) " +
+            "  and (g.lastActivityAt < :cursorAt or (g.lastActivityAt = :cursorAt and g.id < :cursorId)) " +
+            "order by g.lastActivityAt desc, g.id desc")
+    List<GroupInfo> findPageByLastActivityAndName(@Param("pattern") String pattern,
+                                                  @Param("excludeJoined") boolean excludeJoined,
+                                                  @Param("memberId") Long memberId,
+                                                  @Param("cursorAt") LocalDateTime cursorAt,
+                                                  @Param("cursorId") Long cursorId,
+                                                  Pageable pageable);
+
+    // 그룹 totalPaid를 DB에서 직접 증감 (0 미만으로 내려가지 않음)
+    @Modifying(flushAutomatically = true)
+    @Query("update GroupInfo g set g.totalPaid = " +
+            "case when coalesce(g.totalPaid, 0) + :amount < 0 then 0 else coalesce(g.totalPaid, 0) + :amount end " +
+            "where g.id = :groupId")
+    int addTotalPaid(@Param("groupId") Long groupId, @Param("amount") int amount);
+
+    // 그룹원 캐시 검증용 버전 (PK 조회, 그룹이 없으면 empty)
+    @Query("select g.membershipVersion from GroupInfo g where g.id = :groupId")
+    Optional<Long> findMembershipVersion(@Param("groupId") Long groupId);
+
+    // 그룹원 수 증감 (0 미만으로 내려가지 않음), 그룹원이 바뀌었으므로 membershipVersion도 같이 증가
+    @Modifying(flushAutomatically = true)
+    @Query("update GroupInfo g set g.memberCount = " +
+            "case when g.memberCount + :delta < 0 then 0 else g.memberCount + :delta end, " +
+            "g.membershipVersion = g.membershipVersion + 1 " +
+            "where g.id = :groupId")
+    int addMemberCount(@Param("groupId") Long groupId, @Param("delta") int delta);
+
+    @Modifying(flushAutomatically = true)
+    @Query("update GroupInfo g set g.lastActivityAt = :at where g.id = :groupId and g.lastActivityAt < :at")
+    int touchLastActivity(@Param("groupId") Long groupId, @Param("at") LocalDateTime at);
 }
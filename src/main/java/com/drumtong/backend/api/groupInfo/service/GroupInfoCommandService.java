@@ -6,6 +6,7 @@ import com.drumtong.backend.api.groupInfo.repository.GroupInfoRepository;
 import com.drumtong.backend.api.groupmember.entity.GroupMember;
 import com.drumtong.backend.api.groupmember.repository.GroupMemberRepository;
 import com.drumtong.backend.api.groupmember.service.GroupMemberCommandService;
+import com.drumtong.backend.api.groupmember.service.GroupMembershipIndex;
 import com.drumtong.backend.common.exception.UnauthorizedException;
 import com.drumtong.backend.common.exception.NotFoundException;
 import com.drumtong.backend.common.response.ErrorStatus;
@@ -13,6 +14,7 @@ import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Service
@@ -24,6 +26,7 @@ public class GroupInfoCommandService {
     private final GroupMemberRepository groupMemberRepository;
     private final GroupInfoRepository groupInfoRepository;
     private final GroupMemberCommandService groupMemberCommandService;
+    private final GroupMembershipIndex groupMembershipIndex;
 
     public Long createGroupInfo(GroupInfoDto dto) {
         GroupInfo groupInfo = GroupInfo.builder()
@@ -31,6 +34,8 @@ public class GroupInfoCommandService {
                 .name(dto.getName())
                 .description(dto.getDescription())
                 .totalPaid(dto.getTotalPaid() != null ? dto.getTotalPaid() : 0) // null이면 0으로 설정
+                .memberCount(0) // 아래 그룹장 추가 시 1로 증가
+                .lastActivityAt(LocalDateTime.now())
                 .build();
 
         groupInfoRepository.save(groupInfo);
@@ -50,7 +55,7 @@ public class GroupInfoCommandService {
             throw new UnauthorizedException("그룹 리더만 그룹 정보를 수정할 수 있습니다.");
         }
 
-        groupInfo.update(dto.getLeaderId(), dto.getName(), dto.getDescription(), dto.getTotalPaid());
+        groupInfo.update(dto.getLeaderId(), dto.getName(), dto.getDescription());
         groupInfoRepository.save(groupInfo);
     }
 
@@ -63,7 +68,7 @@ public class GroupInfoCommandService {
             throw new UnauthorizedException("그룹 리더만 그룹 정보를 수정할 수 있습니다.");
         }
 
-        groupInfo.update(dto.getLeaderId(), dto.getName(), dto.getDescription(), dto.getTotalPaid());
+        groupInfo.update(dto.getLeaderId(), dto.getName(), dto.getDescription());
         groupInfoRepository.save(groupInfo);
     }
 
@@ -84,5 +89,6 @@ public class GroupInfoCommandService {
 
         // 3. 최종적으로 그룹 삭제
         groupInfoRepository.delete(groupInfo);
+        groupMembershipIndex.membershipChanged(id);
     }
 }
\ No newline at end of file
@@ -1,66 +1,78 @@
 package com.drumtong.backend.api.groupInfo.service;
 
+import com.drumtong.backend.api.groupInfo.dto.GroupInfoCursor;
 import com.drumtong.backend.api.groupInfo.dto.GroupInfoDto;
+import com.drumtong.backend.api.groupInfo.dto.GroupInfoPageDto;
+import com.drumtong.backend.api.groupInfo.dto.GroupInfoSort;
 import com.drumtong.backend.api.groupInfo.entity.GroupInfo;
 import com.drumtong.backend.api.groupInfo.repository.GroupInfoRepository;
-import com.drumtong.backend.api.groupmember.entity.GroupMember;
-import com.drumtong.backend.api.groupmember.repository.GroupMemberRepository;
 import com.drumtong.backend.common.exception.BadRequestException;
 import com.drumtong.backend.common.response.ErrorStatus;
 import jakarta.transaction.Transactional;
 import java.util.List;
+import java.util.Locale;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 
 @Service
 @RequiredArgsConstructor
 @Transactional
 public class GroupInfoQueryService {
+    // 이 길이 이상이면 부분 일치(trigram 인덱스), 짧으면 접두어 일치로 검색
+    private static final int MIN_CONTAINS_QUERY_LENGTH = 3;
 
     private final GroupInfoRepository groupInfoRepository;
-    private final GroupMemberRepository groupMemberRepository; // 추가된 의존성
+
+    @Value("${group.page.default-size:20}")
+    private int defaultPageSize;
+
+    @Value("${group.page.max-size:100}")
+    private int maxPageSize;
 
     public GroupInfoDto findByGroupId(Long groupId) {
         GroupInfo group = groupInfoRepository.findById(groupId)
                 .orElseThrow(() -> new BadRequestException(ErrorStatus.GROUP_NOT_FOUND_EXCEPTION.getMessage()));
-        return toDto(group);
+        return toDtos(List.of(group)).get(0);
     }
 
     public List<GroupInfoDto> findAllByLeaderId(Long leaderId) {
-        List<GroupInfo> groups = groupInfoRepository.findAll().stream()
-                .filter(group -> group.getLeaderId().equals(leaderId))
-                .toList();
+        List<GroupInfo> groups = groupInfoRepository.findAllByLeaderIdOrderByIdAsc(leaderId);
 
         if (groups.isEmpty()) {
             throw new BadRequestException(ErrorStatus.GROUP_NOT_FOUND_EXCEPTION.getMessage());
         }
 
-        return groups.stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtos(groups);
     }
 
     public GroupInfoDto findByName(String GroupName) {
         return groupInfoRepository.findByName(GroupName)
-                .map(this::toDto)
+                .map(group -> toDtos(List.of(group)).get(0))
                 .orElseThrow(() -> new BadRequestException(ErrorStatus.GROUP_NOT_FOUND_EXCEPTION.getMessage()));
     }
 
     public List<GroupInfoDto> findAll() {
-        return groupInfoRepository.findAll().stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+        return toDtos(groupInfoRepository.findAll());
     }
 
     public int getTotalPaidByName(String name) {
-        return groupInfoRepository.findAll().stream()
-                .filter(group -> group.getName().equals(name))
-                .findFirst()
+        return groupInfoRepository.findFirstByNameOrderByIdAsc(name)
                 .map(GroupInfo::getTotalPaid)
                 .orElseThrow(() -> new BadRequestException(ErrorStatus.GROUP_NOT_FOUND_EXCEPTION.getMessage()));
     }
 
+    /**
+     * 그룹 목록을 DTO로 변환 (그룹원 수는 group_info.member_count 사용, 집계 쿼리 없음)
+     */
+    public List<GroupInfoDto> toDtos(List<GroupInfo> groups) {
+        return groups.stream()
+                .map(this::toDto)
+                .collect(Collectors.toList());
+    }
+
     private GroupInfoDto toDto(GroupInfo group) {
         GroupInfoDto dto = new GroupInfoDto();
         dto.setId(group.getId());
@@ -68,31 +80,88 @@ public class GroupInfoQueryService {
         dto.setName(group.getName());
         dto.setDescription(group.getDescription());
         dto.setTotalPaid(group.getTotalPaid());
-        
-        // 그룹원 수 계산하여 설정
-        int memberCount = groupMemberRepository.findByGroupId(group.getId()).size();
-        dto.setMemberCount(memberCount);
-        
+        dto.setMemberCount(group.getMemberCount());
         return dto;
     }
     /**
      * 사용자가 아직 가입하지 않은 그룹 목록 조회
      */
     public List<GroupInfoDto> findGroupsNotJoinedByMember(Long memberId) {
-        // 1. 사용자가 가입한 그룹 ID 목록 조회
-        List<Long> joinedGroupIds = groupMemberRepository.findByMemberId(memberId)
-                .stream()
-                .map(GroupMember::getGroupId)
-                .collect(Collectors.toList());
+        // 가입한 그룹을 DB에서 바로 제외 (NOT EXISTS)
+        List<GroupInfo> notJoinedGroups = groupInfoRepository.findAllNotJoinedByMemberId(memberId);
 
-        // 2. 모든 그룹 중에서 가입하지 않은 그룹만 필터링
-        List<GroupInfo> notJoinedGroups = groupInfoRepository.findAll().stream()
-                .filter(group -> !joinedGroupIds.contains(group.getId()))
-                .collect(Collectors.toList());
+        return toDtos(notJoinedGroups);
+    }
 
-        return notJoinedGroups.stream()
-                .map(this::toDto)
-                .collect(Collectors.toList());
+    /**
+     * 그룹 탐색 페이지 조회 (이름 검색, 정렬 기준별 keyset)
+     */
+    public GroupInfoPageDto findPage(String query, GroupInfoSort sort, String cursor, Integer size) {
+        return findPage(null, query, sort, cursor, size);
+    }
+
+    /**
+     * 사용자가 아직 가입하지 않은 그룹 탐색 페이지 조회
+     */
+    public GroupInfoPageDto findNotJoinedPage(Long memberId, String query, GroupInfoSort sort,
+                                              String cursor, Integer size) {
+        return findPage(memberId, query, sort, cursor, size);
+    }
+
+    private GroupInfoPageDto findPage(Long excludeMemberId, String query, GroupInfoSort sort,
+                                      String cursor, Integer size) {
+        int pageSize = resolvePageSize(size);
+        GroupInfoSort resolvedSort = sort != null ? sort : GroupInfoSort.RECENT_ACTIVITY;
+        GroupInfoCursor after = GroupInfoCursor.decode(cursor, resolvedSort);
+        String pattern = toNamePattern(query);
+        boolean excludeJoined = excludeMemberId != null;
+        Long memberId = excludeJoined ? excludeMemberId : 0L;
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<GroupInfo> rows = switch (resolvedSort) {
+            case MEMBER_COUNT -> pattern == null
+                    ? groupInfoRepository.findPageByMemberCount(
+                            excludeJoined, memberId, after.getMemberCount(), after.getId(), limit)
+                    : groupInfoRepository.findPageByMemberCountAndName(
+                            pattern, excludeJoined, memberId, after.getMemberCount(), after.getId(), limit);
+            case RECENT_ACTIVITY -> pattern == null
+                    ? groupInfoRepository.findPageByLastActivity(
+                            excludeJoined, memberId, after.getLastActivityAt(), after.getId(), limit)
+                    : groupInfoRepository.findPageByLastActivityAndName(
+                            pattern, excludeJoined, memberId, after.getLastActivityAt(), after.getId(), limit);
+        };
+
+        // 한 건 더 조회한 결과로 다음 페이지 여부 판단
+        boolean hasNext = rows.size() > pageSize;
+        List<GroupInfo> groups = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? GroupInfoCursor.of(resolvedSort, groups.get(groups.size() - 1)).encode() : null;
+
+        return new GroupInfoPageDto(toDtos(groups), nextCursor, hasNext);
+    }
+
+    // 페이지 크기 확인 (없으면 기본값, 최대값을 넘으면 최대값으로 제한)
+    private int resolvePageSize(Integer size) {
+        if (size == null) {
+            return defaultPageSize;
+        }
+        if (size < 1) {
+            throw new BadRequestException(ErrorStatus.INVALID_PAGE_SIZE_EXCEPTION.getMessage());
+        }
+        return Math.min(size, maxPageSize);
+    }
+
+    // 검색어를 소문자 LIKE 패턴으로 변환 (검색어가 없으면 null)
+    private String toNamePattern(String query) {
+        if (query == null || query.isBlank()) {
+            return null;
+        }
+
+        String trimmed = query.trim();
+        String escaped = trimmed.toLowerCase(Locale.ROOT)
+                .replace("!", "!!")
+                .replace("%", "!%")
+                .replace("_", "!_");
+        return trimmed.length() >= MIN_CONTAINS_QUERY_LENGTH ? "%" + escaped + "%" : escaped + "%";
     }
 
 }
@@ -8,7 +8,10 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "group_members")
+@Table(name = "group_members",
+        uniqueConstraints = @UniqueConstraint(
+                name = "uk_group_members_group_member",
+                columnNames = {"group_id", "member_id"}))
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,7 +1,11 @@
 package com.drumtong.backend.api.groupmember.repository;
 
+import com.drumtong.backend.api.groupInfo.dto.GroupInfoDto;
 import com.drumtong.backend.api.groupmember.entity.GroupMember;
+import com.drumtong.backend.api.member.dto.MemberSimpleDto;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 import java.util.Optional;
@@ -11,4 +15,21 @@ public interface GroupMemberRepository extends JpaRepository<GroupMember, Long>
     List<GroupMember> findByMemberId(Long memberId);
     Optional<GroupMember> findByGroupIdAndMemberId(Long groupId, Long memberId);
     void deleteByGroupIdAndMemberId(Long groupId, Long memberId);
+
+    // 그룹원 ID만 조회 (GroupMembershipIndex 적재용, 그룹 항목 작성 시 금액 분배/멤버 항목 생성)
+    @Query("select gm.memberId from GroupMember gm where gm.groupId = :groupId order by gm.memberId")
+    List<Long> findMemberIdsByGroupId(@Param("groupId") Long groupId);
+
+    // 그룹원 목록 (members 조인 한 번으로 조회, GroupMembershipIndex 적재용)
+    @Query("select new com.drumtong.backend.api.member.dto.MemberSimpleDto(m.id, m.nickname, m.email) " +
+            "from GroupMember gm join Member m on m.id = gm.memberId " +
+            "where gm.groupId = :groupId order by gm.id")
+    List<MemberSimpleDto> findMemberDtosByGroupId(@Param("groupId") Long groupId);
+
+    // 멤버가 속한 그룹 목록 (리더인 그룹 제외, 그룹원 수는 group_info.member_count)
+    @Query("select new com.drumtong.backend.api.groupInfo.dto.GroupInfoDto(" +
+            "g.id, g.leaderId, g.name, g.description, g.totalPaid, g.memberCount) " +
+            "from GroupMember gm join GroupInfo g on g.id = gm.groupId " +
+            "where gm.memberId = :memberId and g.leaderId <> :memberId order by gm.id")
+    List<GroupInfoDto> findJoinedGroupDtosByMemberId(@Param("memberId") Long memberId);
 }
\ No newline at end of file
@@ -19,6 +19,7 @@ public class GroupMemberCommandService {
     private final GroupMemberRepository groupMemberRepository;
     private final GroupInfoRepository groupInfoRepository;
     private final MemberRepository memberRepository;
+    private final GroupMembershipIndex groupMembershipIndex;
 
     /**
      * 그룹에 멤버 추가
@@ -45,6 +46,8 @@ public class GroupMemberCommandService {
                 .build();
 
         groupMemberRepository.save(groupMember);
+        groupInfoRepository.addMemberCount(groupId, 1);
+        groupMembershipIndex.membershipChanged(groupId);
         return groupMember.getId();
     }
 
@@ -69,6 +72,8 @@ public class GroupMemberCommandService {
                 .orElseThrow(() -> new NotFoundException("멤버가 그룹에 존재하지 않습니다."));
 
         groupMemberRepository.delete(groupMember);
+        groupInfoRepository.addMemberCount(groupId, -1);
+        groupMembershipIndex.membershipChanged(groupId);
     }
 
     /**
@@ -84,6 +89,8 @@ public class GroupMemberCommandService {
                 .orElseThrow(() -> new NotFoundException("멤버가 그룹에 존재하지 않습니다."));
 
         groupMemberRepository.delete(groupMember);
+        groupInfoRepository.addMemberCount(groupId, -1);
+        groupMembershipIndex.membershipChanged(groupId);
     }
 
 
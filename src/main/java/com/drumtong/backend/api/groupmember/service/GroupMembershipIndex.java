@@ -0,0 +1,148 @@
+package com.drumtong.backend.api.groupmember.service;
+
+import com.drumtong.backend.api.groupInfo.repository.GroupInfoRepository;
+import com.drumtong.backend.api.groupmember.repository.GroupMemberRepository;
+import com.drumtong.backend.api.member.dto.MemberSimpleDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * 그룹원 캐시 (groupId -> 그룹원 ID, groupId -> 그룹원 목록)
+ * 캐시 값마다 group_info.membership_version을 같이 보관하고, 조회할 때마다 PK로 버전만 읽어서 다르면 다시 적재
+ * 버전은 그룹원 추가/제거/탈퇴 시 같은 트랜잭션에서 증가하므로 다른 서버에서 바뀐 그룹원도 바로 반영됨
+ * 그룹원 목록의 닉네임/이메일은 버전과 무관하게 바뀌므로 짧은 TTL로 만료
+ */
+@Component
+public class GroupMembershipIndex {
+    private static final String CHANGED_GROUPS_KEY = GroupMembershipIndex.class.getName() + ".changedGroups";
+
+    private final GroupInfoRepository groupInfoRepository;
+    private final GroupMemberRepository groupMemberRepository;
+    private final Cache<Long, Snapshot<long[]>> memberIds;
+    private final Cache<Long, Snapshot<List<MemberSimpleDto>>> members;
+    private final Counter staleCounter;
+
+    public GroupMembershipIndex(GroupInfoRepository groupInfoRepository,
+                                GroupMemberRepository groupMemberRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${group.membership-index.maximum-size:10000}") long maximumSize,
+                                @Value("${group.membership-index.ttl-seconds:30}") long ttlSeconds) {
+        this.groupInfoRepository = groupInfoRepository;
+        this.groupMemberRepository = groupMemberRepository;
+        this.memberIds = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        this.members = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memberIds, "group.membership.ids");
+        CaffeineCacheMetrics.monitor(meterRegistry, members, "group.membership.members");
+        this.staleCounter = Counter.builder("group.membership.stale")
+                .description("Cached group memberships replaced because membership_version changed")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 그룹원 ID (정렬된 long 배열로 보관), 그룹이 없으면 empty
+     */
+    public Optional<List<Long>> findMemberIds(Long groupId) {
+        return lookup(memberIds, groupId, id -> groupMemberRepository.findMemberIdsByGroupId(id).stream()
+                .mapToLong(Long::longValue)
+                .toArray())
+                .map(ids -> Arrays.stream(ids).boxed().toList());
+    }
+
+    /**
+     * 그룹원 목록 (탈퇴 등으로 회원이 없는 그룹원 제외), 그룹이 없으면 empty
+     */
+    public Optional<List<MemberSimpleDto>> findMembers(Long groupId) {
+        return lookup(members, groupId, groupMemberRepository::findMemberDtosByGroupId);
+    }
+
+    /**
+     * 그룹원 변경 후 호출
+     * 커밋 전의 그룹원은 다른 트랜잭션에서 보이지 않으므로 이 트랜잭션 안에서는 해당 그룹을 캐시하지 않고,
+     * 트랜잭션이 끝나면 이 서버의 캐시를 비움 (다른 서버는 버전 비교로 반영)
+     */
+    public void membershipChanged(Long groupId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(groupId);
+            return;
+        }
+
+        Set<Long> changedGroups = changedGroups();
+        if (changedGroups == null) {
+            Set<Long> groupIds = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(CHANGED_GROUPS_KEY, groupIds);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(CHANGED_GROUPS_KEY);
+                    groupIds.forEach(GroupMembershipIndex.this::evict);
+                }
+            });
+            changedGroups = groupIds;
+        }
+        changedGroups.add(groupId);
+    }
+
+    private <T> Optional<T> lookup(Cache<Long, Snapshot<T>> cache, Long groupId, Function<Long, T> loader) {
+        Optional<Long> version = groupInfoRepository.findMembershipVersion(groupId);
+        if (version.isEmpty()) {
+            cache.invalidate(groupId);
+            return Optional.empty();
+        }
+
+        Snapshot<T> cached = cache.getIfPresent(groupId);
+        if (cached != null && cached.version() == version.get()) {
+            return Optional.of(cached.value());
+        }
+        if (cached != null) {
+            staleCounter.increment();
+        }
+
+        // 버전을 먼저 읽었으므로 그 사이 변경이 커밋되면 다음 조회에서 버전이 달라져 다시 적재됨
+        T value = loader.apply(groupId);
+        if (!changedInCurrentTransaction(groupId)) {
+            cache.put(groupId, new Snapshot<>(version.get(), value));
+        }
+        return Optional.of(value);
+    }
+
+    private void evict(Long groupId) {
+        memberIds.invalidate(groupId);
+        members.invalidate(groupId);
+    }
+
+    private boolean changedInCurrentTransaction(Long groupId) {
+        Set<Long> changedGroups = changedGroups();
+        return changedGroups != null && changedGroups.contains(groupId);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<Long> changedGroups() {
+        return (Set<Long>) TransactionSynchronizationManager.getResource(CHANGED_GROUPS_KEY);
+    }
+
+    private record Snapshot<T>(long version, T value) {
+    }
+}
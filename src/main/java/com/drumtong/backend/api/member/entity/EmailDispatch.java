@@ -0,0 +1,86 @@
+package com.drumtong.backend.api.member.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 발송 대기 중인 메일
+ * 인증코드/비밀번호 초기화 요청과 같은 트랜잭션에서 저장되고, EmailDispatchWorker가 백그라운드에서 발송
+ */
+@Getter
+@Entity
+@Builder
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Table(name = "email_dispatch_queue",
+        indexes = {
+                @Index(name = "idx_email_dispatch_queue_status_next", columnList = "status, next_attempt_at")
+        })
+public class EmailDispatch {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String recipient;
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String body;
+
+    @Builder.Default
+    @Enumerated(EnumType.STRING)
+    @Column(length = 10, nullable = false)
+    private EmailDispatchStatus status = EmailDispatchStatus.PENDING;
+
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    // 워커가 가져간 뒤 이 시각까지는 다른 워커가 가져가지 않음 (발송 중 서버가 죽으면 이후 다시 발송)
+    @Column(name = "locked_until")
+    private LocalDateTime lockedUntil;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime sentAt;
+
+    // 본문의 인증코드가 만료되는 시각 (이후에는 발송하지 않고 삭제, null이면 만료 없음)
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+
+    public boolean isExpired(LocalDateTime now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
+    }
+
+    public void lease(LocalDateTime lockedUntil) {
+        this.lockedUntil = lockedUntil;
+    }
+
+    public void markSent(LocalDateTime now) {
+        this.status = EmailDispatchStatus.SENT;
+        this.sentAt = now;
+        this.lockedUntil = null;
+        this.lastError = null;
+    }
+
+    // 실패 기록 후 다음 시도 시각 설정, 최대 횟수를 넘으면 FAILED로 중단
+    public void markRetry(String error, LocalDateTime nextAttemptAt, int maxAttempts) {
+        this.attempts++;
+        this.lastError = error;
+        this.nextAttemptAt = nextAttemptAt;
+        this.lockedUntil = null;
+        if (this.attempts >= maxAttempts) {
+            this.status = EmailDispatchStatus.FAILED;
+        }
+    }
+}
@@ -0,0 +1,7 @@
+package com.drumtong.backend.api.member.entity;
+
+public enum EmailDispatchStatus {
+    PENDING,
+    SENT,
+    FAILED
+}
@@ -1,6 +1,7 @@
 package com.drumtong.backend.api.member.entity;
 
 import com.drumtong.backend.common.entity.BaseTimeEntity;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
@@ -21,14 +22,12 @@ public class Member extends BaseTimeEntity {
     private String email;
     private String password;
     private String nickname;
+
+    // 누적 결제 금액 (MemberRepository.addTotalPaid로만 증감, 엔티티 저장 시에는 덮어쓰지 않음)
+    @Column(updatable = false)
     private int totalPaid;
 
     public void updatePassword(String password){
         this.password=password;
     }
-
-    // 금액 추가 메서드
-    public void addPaid(int amount){
-        this.totalPaid += amount;
-    }
 }
@@ -0,0 +1,16 @@
+package com.drumtong.backend.api.member.jwt.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.Instant;
+
+/**
+ * 검증이 끝난 Access Token에서 꺼낸 값 (회원 ID, 만료 시각)
+ */
+@Getter
+@AllArgsConstructor
+public class AccessTokenClaims {
+    private final Long memberId;
+    private final Instant expiresAt;
+}
@@ -1,8 +1,8 @@
 package com.drumtong.backend.api.member.jwt.filter;
 
-import com.drumtong.backend.api.member.entity.Member;
-import com.drumtong.backend.api.member.jwt.service.JwtService;
-import com.drumtong.backend.api.member.repository.MemberRepository;
+import com.drumtong.backend.api.member.jwt.dto.AccessTokenClaims;
+import com.drumtong.backend.api.member.jwt.service.MemberPrincipalCache;
+import com.drumtong.backend.api.member.jwt.service.VerifiedTokenCache;
 import com.drumtong.backend.common.config.security.SecurityMember;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -26,8 +26,8 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     @Value("${jwt.access.header}")
     private String accessTokenHeader;
 
-    private final JwtService jwtService;
-    private final MemberRepository memberRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     // Swagger UI 등의 특정 URI를 필터 적용 대상에서 제외할 때 사용
     private static final String[] SWAGGER_URIS = {
@@ -51,17 +51,13 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
-        // 요청 헤더에서 Access Token을 추출하고, 유효하다면 해당 회원 정보를 SecurityContext에 설정
-        Optional<String> accessToken = extractToken(request, accessTokenHeader)
-                .filter(jwtService::isTokenValid);
-
-        accessToken.ifPresent(token ->
-                jwtService.extractMemberId(token)
-                        .ifPresent(id ->
-                                memberRepository.findById(Long.valueOf(id))
-                                        .ifPresent(this::setAuthentication)
-                        )
-        );
+        // 요청 헤더에서 Access Token을 추출하고, 유효하다면 토큰의 회원 ID로 SecurityContext에 설정 (검증은 한 번만, 이미 검증된 토큰은 캐시 사용)
+        // 탈퇴 등으로 없는 회원인지는 캐시로 확인해서 매 요청 회원 조회를 하지 않음
+        extractToken(request, accessTokenHeader)
+                .flatMap(verifiedTokenCache::verify)
+                .map(AccessTokenClaims::getMemberId)
+                .filter(memberPrincipalCache::exists)
+                .ifPresent(this::setAuthentication);
 
         filterChain.doFilter(request, response);
     }
@@ -76,12 +72,9 @@ public class JwtAuthenticationProcessingFilter extends OncePerRequestFilter {
     }
 
     // 인증 정보를 만들어서 SecurityContext에 저장
-    private void setAuthentication(Member member) {
+    private void setAuthentication(Long memberId) {
         SecurityMember securityMember = SecurityMember.builder()
-                .id(member.getId())
-                .email(member.getEmail())
-                .password(member.getPassword())
-                .totalpaid(member.getTotalPaid())
+                .id(memberId)
                 .build();
 
         Authentication authentication = new UsernamePasswordAuthenticationToken(
@@ -1,10 +1,15 @@
 package com.drumtong.backend.api.member.jwt.service;
 
 import com.auth0.jwt.JWT;
+import com.auth0.jwt.JWTVerifier;
 import com.auth0.jwt.algorithms.Algorithm;
 import com.auth0.jwt.exceptions.SignatureVerificationException;
 import com.auth0.jwt.exceptions.TokenExpiredException;
+import com.auth0.jwt.interfaces.DecodedJWT;
+import com.drumtong.backend.api.member.jwt.dto.AccessTokenClaims;
 import com.drumtong.backend.api.member.repository.MemberRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -28,52 +33,64 @@ public class JwtService {
 
     private final MemberRepository memberRepository;
 
+    // 서명/검증 객체는 thread-safe 하므로 한 번만 만들어서 재사용
+    @Getter(AccessLevel.NONE)
+    private Algorithm algorithm;
+
+    @Getter(AccessLevel.NONE)
+    private JWTVerifier verifier;
+
+    @PostConstruct
+    public void init() {
+        algorithm = Algorithm.HMAC512(secretKey);
+        verifier = JWT.require(algorithm).build();
+    }
+
     // Access Token 생성
     public String createAccessToken(Long memberId) {
         Date now = new Date();
         return JWT.create()
                 .withSubject(String.valueOf(memberId))
                 .withExpiresAt(new Date(now.getTime() + accessTokenExpirationPeriod))
-                .sign(Algorithm.HMAC512(secretKey));
+                .sign(algorithm);
     }
 
-    // 토큰 유효성 검사
-    public boolean isTokenValid(String token) {
+    // 토큰을 한 번 검증하고 회원 ID와 만료 시각을 함께 반환 (유효하지 않으면 empty)
+    public Optional<AccessTokenClaims> verify(String token) {
         try {
-            JWT.require(Algorithm.HMAC512(secretKey)).build().verify(token);
-            return true;
+            DecodedJWT decodedJWT = verifier.verify(token);
+            String sub = decodedJWT.getSubject();
+            if (sub == null) {
+                log.error("액세스 토큰에 회원 정보가 없습니다.");
+                return Optional.empty();
+            }
+            return Optional.of(new AccessTokenClaims(Long.valueOf(sub), decodedJWT.getExpiresAtAsInstant()));
         } catch (TokenExpiredException e) {
             log.error("토큰이 만료되었습니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (SignatureVerificationException e) {
             log.error("토큰 서명 검증 실패: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         } catch (Exception e) {
             log.error("유효하지 않은 토큰입니다: {}", e.getMessage());
-            return false;
+            return Optional.empty();
         }
     }
 
+    // 토큰 유효성 검사
+    public boolean isTokenValid(String token) {
+        return verify(token).isPresent();
+    }
+
     // 토큰에서 회원 ID 추출
     public Optional<String> extractMemberId(String accessToken) {
-        try {
-            String sub = JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
-                    .verify(accessToken)
-                    .getClaim("sub")
-                    .asString();
-            return Optional.ofNullable(sub);
-        } catch (Exception e) {
-            log.error("액세스 토큰이 유효하지 않습니다.");
-            return Optional.empty();
-        }
+        return verify(accessToken).map(claims -> String.valueOf(claims.getMemberId()));
     }
 
     // (Optional) 이메일 추출 메서드. 필요 없으면 삭제해도 됩니다.
     public Optional<String> extractEmail(String accessToken) {
         try {
-            String sub = JWT.require(Algorithm.HMAC512(secretKey))
-                    .build()
+            String sub = verifier
                     .verify(accessToken)
                     .getClaim("sub")
                     .asString();
@@ -0,0 +1,39 @@
+package com.drumtong.backend.api.member.jwt.service;
+
+import com.drumtong.backend.api.member.repository.MemberRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * 인증 시 회원 존재 여부 캐시
+ * 요청마다 members 행을 조회하지 않도록 회원 ID별 존재 여부를 일정 시간 보관
+ * 회원은 삭제되지 않으므로 TTL로만 만료 (회원 삭제 기능을 추가하면 삭제 커밋 후 해당 ID를 무효화해야 함)
+ */
+@Component
+public class MemberPrincipalCache {
+    private final MemberRepository memberRepository;
+    private final Cache<Long, Boolean> memberExists;
+
+    public MemberPrincipalCache(MemberRepository memberRepository,
+                                MeterRegistry meterRegistry,
+                                @Value("${jwt.member-cache.maximum-size:10000}") long maximumSize,
+                                @Value("${jwt.member-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.memberRepository = memberRepository;
+        this.memberExists = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(ttlSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, memberExists, "auth.member");
+    }
+
+    public boolean exists(Long memberId) {
+        return memberExists.get(memberId, memberRepository::existsById);
+    }
+}
@@ -0,0 +1,87 @@
+package com.drumtong.backend.api.member.jwt.service;
+
+import com.drumtong.backend.api.member.jwt.dto.AccessTokenClaims;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * 검증이 끝난 Access Token 캐시
+ * 같은 토큰으로 짧은 시간에 여러 번 요청하는 경우 HMAC 검증/디코딩 대신 토큰 해시 조회만 수행
+ * - 키는 토큰 원문이 아닌 SHA-256 해시
+ * - 각 항목은 토큰 만료 시각에 맞춰 제거되고, 조회 시에도 만료 여부를 다시 확인
+ * - 검증에 실패한 토큰은 캐시하지 않음
+ */
+@Component
+public class VerifiedTokenCache {
+    private final JwtService jwtService;
+    private final Cache<String, AccessTokenClaims> verifiedTokens;
+
+    public VerifiedTokenCache(JwtService jwtService,
+                              MeterRegistry meterRegistry,
+                              @Value("${jwt.token-cache.maximum-size:10000}") long maximumSize) {
+        this.jwtService = jwtService;
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "auth.token");
+    }
+
+    public Optional<AccessTokenClaims> verify(String token) {
+        String key = hash(token);
+        AccessTokenClaims cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            if (Instant.now().isBefore(cached.getExpiresAt())) {
+                return Optional.of(cached);
+            }
+            verifiedTokens.invalidate(key);
+            return Optional.empty();
+        }
+
+        Optional<AccessTokenClaims> claims = jwtService.verify(token);
+        claims.filter(verified -> verified.getExpiresAt() != null)
+                .ifPresent(verified -> verifiedTokens.put(key, verified));
+        return claims;
+    }
+
+    private String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    // 항목별 만료 시간 = 토큰 만료 시각까지 남은 시간
+    private static class TokenExpiry implements Expiry<String, AccessTokenClaims> {
+        @Override
+        public long expireAfterCreate(String key, AccessTokenClaims claims, long currentTime) {
+            return Math.max(0, Duration.between(Instant.now(), claims.getExpiresAt()).toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, AccessTokenClaims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, AccessTokenClaims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.drumtong.backend.api.member.repository;
+
+import com.drumtong.backend.api.member.entity.EmailDispatch;
+import com.drumtong.backend.api.member.entity.EmailDispatchStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface EmailDispatchRepository extends JpaRepository<EmailDispatch, Long> {
+
+    // 발송할 메일을 잠금 (다른 워커가 잠근 행이나 임대 시간이 남은 행, 만료된 행은 건너뜀)
+    @Query(value = "select * from email_dispatch_queue " +
+            "where status = 'PENDING' and next_attempt_at <= :now " +
+            "and (locked_until is null or locked_until <= :now) " +
+            "and (expires_at is null or expires_at > :now) " +
+            "order by id " +
+            "limit :limit " +
+            "for update skip locked",
+            nativeQuery = true)
+    List<EmailDispatch> claimBatch(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    long countByStatus(EmailDispatchStatus status);
+
+    @Query("select min(e.createdAt) from EmailDispatch e where e.status = :status")
+    LocalDateTime findOldestCreatedAt(@Param("status") EmailDispatchStatus status);
+
+    // 본문의 인증코드가 만료된 메일 정리 (상태와 관계없이 삭제)
+    @Modifying
+    @Query(value = "delete from email_dispatch_queue where expires_at <= :now", nativeQuery = true)
+    int deleteExpired(@Param("now") LocalDateTime now);
+
+    // 보관 기간이 지난 발송 완료 / 발송 실패 메일 정리
+    @Modifying
+    @Query(value = "delete from email_dispatch_queue " +
+            "where (status = 'SENT' and sent_at < :before) or (status = 'FAILED' and created_at < :before)",
+            nativeQuery = true)
+    int deleteFinishedBefore(@Param("before") LocalDateTime before);
+}
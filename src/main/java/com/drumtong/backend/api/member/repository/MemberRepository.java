@@ -2,11 +2,21 @@ package com.drumtong.backend.api.member.repository;
 
 import com.drumtong.backend.api.member.entity.Member;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface MemberRepository extends JpaRepository<Member, Long> {
 
     Optional<Member> findByEmail(String email);
     Optional<Member> findByNickname(String nickname);
+
+    // 여러 멤버의 totalPaid를 한 번의 UPDATE로 증감 (동시 수정 시에도 누락 없음)
+    @Modifying(flushAutomatically = true)
+    @Query("update Member m set m.totalPaid = m.totalPaid + :amount, m.updatedAt = local datetime " +
+            "where m.id in :memberIds")
+    int addTotalPaid(@Param("memberIds") Collection<Long> memberIds, @Param("amount") int amount);
 }
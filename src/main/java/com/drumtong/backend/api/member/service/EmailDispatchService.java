@@ -0,0 +1,182 @@
+package com.drumtong.backend.api.member.service;
+
+import com.drumtong.backend.api.member.entity.EmailDispatch;
+import com.drumtong.backend.api.member.entity.EmailDispatchStatus;
+import com.drumtong.backend.api.member.repository.EmailDispatchRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.mail.MailException;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 메일 발송 대기열
+ * - 요청 처리 중에는 대기열에 저장만 하고 (enqueue)
+ * - EmailDispatchWorker가 dispatchBatch로 여러 통을 SMTP 연결 하나로 발송, 실패 시 재시도
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EmailDispatchService {
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    @Value("${spring.mail.username}")
+    private String serviceEmail;
+
+    @Value("${email.dispatch.lease-seconds:120}")
+    private long leaseSeconds;
+
+    @Value("${email.dispatch.max-attempts:8}")
+    private int maxAttempts;
+
+    @Value("${email.dispatch.retry-base-delay-ms:10000}")
+    private long retryBaseDelayMs;
+
+    @Value("${email.dispatch.retry-max-delay-ms:1800000}")
+    private long retryMaxDelayMs;
+
+    private final EmailDispatchRepository emailDispatchRepository;
+    private final JavaMailSender mailSender;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 호출한 트랜잭션(인증코드 저장 등)과 함께 커밋되도록 대기열에 저장
+     * expiresAt이 지나면 재시도 중이어도 발송하지 않고 삭제
+     */
+    @Transactional
+    public void enqueue(String recipient, String subject, String body, LocalDateTime expiresAt) {
+        LocalDateTime now = LocalDateTime.now();
+        emailDispatchRepository.save(EmailDispatch.builder()
+                .recipient(recipient)
+                .subject(subject)
+                .body(body)
+                .nextAttemptAt(now)
+                .createdAt(now)
+                .expiresAt(expiresAt)
+                .build());
+    }
+
+    /**
+     * 대기 중인 메일을 최대 batchSize통 가져와 발송
+     * 가져갈 때만 짧게 잠그고 (임대 시간 기록 후 커밋), SMTP 발송은 트랜잭션 밖에서 처리
+     * 가져간 메일 수를 반환
+     */
+    public int dispatchBatch(int batchSize) {
+        List<EmailDispatch> claimed = transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<EmailDispatch> batch = emailDispatchRepository.claimBatch(now, batchSize);
+            LocalDateTime lockedUntil = now.plusSeconds(leaseSeconds);
+            batch.forEach(dispatch -> dispatch.lease(lockedUntil));
+            return batch;
+        });
+        if (claimed == null || claimed.isEmpty()) {
+            return 0;
+        }
+
+        String from = String.format("딸꾹 <%s>", serviceEmail);
+        Map<Long, SimpleMailMessage> messages = new LinkedHashMap<>();
+        for (EmailDispatch dispatch : claimed) {
+            SimpleMailMessage mailMessage = new SimpleMailMessage();
+            mailMessage.setFrom(from);
+            mailMessage.setTo(dispatch.getRecipient());
+            mailMessage.setSubject(dispatch.getSubject());
+            mailMessage.setText(dispatch.getBody());
+            messages.put(dispatch.getId(), mailMessage);
+        }
+
+        Map<Long, String> failures = send(messages);
+        transactionTemplate.executeWithoutResult(status -> recordResults(messages.keySet(), failures));
+        return claimed.size();
+    }
+
+    // 한 번의 send 호출로 같은 SMTP 연결을 재사용해서 발송, 실패한 메일의 ID와 오류 메시지 반환
+    private Map<Long, String> send(Map<Long, SimpleMailMessage> messages) {
+        try {
+            mailSender.send(messages.values().toArray(new SimpleMailMessage[0]));
+            return Map.of();
+        } catch (MailSendException e) {
+            Map<Object, Exception> failedMessages = e.getFailedMessages();
+            if (failedMessages.isEmpty()) {
+                return failAll(messages.keySet(), e);
+            }
+            Map<Long, String> failures = new HashMap<>();
+            messages.forEach((id, message) -> {
+                Exception failure = failedMessages.get(message);
+                if (failure != null) {
+                    failures.put(id, String.valueOf(failure.getMessage()));
+                }
+            });
+            return failures;
+        } catch (MailException e) {
+            // 인증 실패 등 연결 단계 오류는 전부 재시도
+            return failAll(messages.keySet(), e);
+        }
+    }
+
+    private Map<Long, String> failAll(Collection<Long> ids, Exception e) {
+        log.warn("Email dispatch of {} messages failed", ids.size(), e);
+        Map<Long, String> failures = new HashMap<>();
+        ids.forEach(id -> failures.put(id, String.valueOf(e.getMessage())));
+        return failures;
+    }
+
+    private void recordResults(Collection<Long> ids, Map<Long, String> failures) {
+        LocalDateTime now = LocalDateTime.now();
+        for (EmailDispatch dispatch : emailDispatchRepository.findAllById(ids)) {
+            String error = failures.get(dispatch.getId());
+            if (error == null) {
+                dispatch.markSent(now);
+                continue;
+            }
+
+            long delayMs = Math.min(retryMaxDelayMs, retryBaseDelayMs << Math.min(dispatch.getAttempts(), 20));
+            LocalDateTime nextAttemptAt = now.plus(Duration.ofMillis(delayMs));
+            if (dispatch.isExpired(nextAttemptAt)) {
+                // 다음 시도 전에 인증코드가 만료되므로 더 보내지 않음
+                log.warn("Email dispatch {} dropped: code expires before the next attempt", dispatch.getId());
+                emailDispatchRepository.delete(dispatch);
+                continue;
+            }
+
+            dispatch.markRetry(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error,
+                    nextAttemptAt, maxAttempts);
+            if (dispatch.getStatus() == EmailDispatchStatus.FAILED) {
+                log.error("Email dispatch {} gave up after {} attempts", dispatch.getId(), dispatch.getAttempts());
+            }
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public long countPending() {
+        return emailDispatchRepository.countByStatus(EmailDispatchStatus.PENDING);
+    }
+
+    @Transactional(readOnly = true)
+    public long countFailed() {
+        return emailDispatchRepository.countByStatus(EmailDispatchStatus.FAILED);
+    }
+
+    // 가장 오래 대기 중인 메일의 대기 시간 (없으면 0)
+    @Transactional(readOnly = true)
+    public Duration getOldestPendingAge() {
+        LocalDateTime oldest = emailDispatchRepository.findOldestCreatedAt(EmailDispatchStatus.PENDING);
+        return oldest == null ? Duration.ZERO : Duration.between(oldest, LocalDateTime.now());
+    }
+
+    /**
+     * 만료된 메일과 보관 기간이 지난 발송 완료 / 실패 메일 삭제 (본문에 인증코드가 있으므로 남겨두지 않음)
+     */
+    @Transactional
+    public int purge(LocalDateTime now, LocalDateTime finishedBefore) {
+        return emailDispatchRepository.deleteExpired(now) + emailDispatchRepository.deleteFinishedBefore(finishedBefore);
+    }
+}
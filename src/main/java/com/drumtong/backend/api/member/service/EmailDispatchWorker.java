@@ -0,0 +1,140 @@
+package com.drumtong.backend.api.member.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 메일 발송 대기열 처리 작업
+ * - 주기적으로 워커 풀에 발송 작업을 넣고, 각 워커는 대기열이 빌 때까지 배치 단위로 발송
+ *   (여러 서버에서 실행해도 SKIP LOCKED와 임대 시간으로 나눠서 처리)
+ * - 대기 건수/지연 시간을 메트릭으로 노출
+ */
+@Component
+@Slf4j
+public class EmailDispatchWorker {
+    private final EmailDispatchService emailDispatchService;
+    private final ExecutorService executor;
+    private final int workers;
+    private final AtomicInteger running = new AtomicInteger();
+
+    private final Counter sentCounter;
+    private final Counter errorCounter;
+    private final Timer batchTimer;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong failedCount = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    @Value("${email.dispatch.batch-size:20}")
+    private int batchSize;
+
+    @Value("${email.dispatch.retention-days:1}")
+    private int retentionDays;
+
+    public EmailDispatchWorker(EmailDispatchService emailDispatchService,
+                               MeterRegistry meterRegistry,
+                               @Value("${email.dispatch.workers:2}") int workers) {
+        this.emailDispatchService = emailDispatchService;
+        this.workers = Math.max(1, workers);
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = Executors.newFixedThreadPool(this.workers, runnable -> {
+            Thread thread = new Thread(runnable, "email-dispatch-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.sentCounter = Counter.builder("email.dispatch.processed")
+                .description("Queued emails picked up for sending")
+                .register(meterRegistry);
+        this.errorCounter = Counter.builder("email.dispatch.errors")
+                .description("Email dispatch batches that failed")
+                .register(meterRegistry);
+        this.batchTimer = Timer.builder("email.dispatch.batch")
+                .description("Time spent sending one batch of queued emails")
+                .register(meterRegistry);
+        Gauge.builder("email.dispatch.pending", pendingCount, AtomicLong::get)
+                .description("Emails waiting to be sent")
+                .register(meterRegistry);
+        Gauge.builder("email.dispatch.failed", failedCount, AtomicLong::get)
+                .description("Emails that exhausted their retries")
+                .register(meterRegistry);
+        Gauge.builder("email.dispatch.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest pending email")
+                .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${email.dispatch.poll-delay-ms:1000}")
+    public void poll() {
+        // 이미 돌고 있는 워커 수만큼만 빼고 새로 시작
+        while (true) {
+            int current = running.get();
+            if (current >= workers) {
+                return;
+            }
+            if (running.compareAndSet(current, current + 1)) {
+                executor.execute(this::drain);
+            }
+        }
+    }
+
+    private void drain() {
+        try {
+            while (true) {
+                Integer claimed = batchTimer.record(() -> emailDispatchService.dispatchBatch(batchSize));
+                if (claimed == null || claimed == 0) {
+                    return;
+                }
+                sentCounter.increment(claimed);
+                if (claimed < batchSize) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            errorCounter.increment();
+            log.error("Email dispatch failed", e);
+        } finally {
+            running.decrementAndGet();
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${email.dispatch.metrics-delay-ms:15000}")
+    public void refreshMetrics() {
+        try {
+            pendingCount.set(emailDispatchService.countPending());
+            failedCount.set(emailDispatchService.countFailed());
+            lagSeconds.set(emailDispatchService.getOldestPendingAge().toSeconds());
+        } catch (Exception e) {
+            log.warn("Failed to refresh email dispatch metrics", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${email.dispatch.purge-delay-ms:300000}")
+    public void purge() {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int purged = emailDispatchService.purge(now, now.minusDays(retentionDays));
+            if (purged > 0) {
+                log.info("Purged {} expired or finished emails", purged);
+            }
+        } catch (Exception e) {
+            log.error("Email dispatch purge failed", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+    }
+}
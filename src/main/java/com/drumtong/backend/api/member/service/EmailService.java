@@ -12,10 +12,8 @@ import com.drumtong.backend.common.exception.NotFoundException;
 import com.drumtong.backend.common.exception.UnauthorizedException;
 import com.drumtong.backend.common.response.ErrorStatus;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.security.SecureRandom;
 import java.time.LocalDateTime;
@@ -24,14 +22,13 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class EmailService {
 
-    @Value("${spring.mail.username}")
-    private String serviceEmail;
-
-    private final JavaMailSender mailSender;
+    private final EmailDispatchService emailDispatchService;
     private final MemberRepository memberRepository;
     private final EmailVerificationRepository emailVerificationRepository;
     private final PasswordResetRepository passwordResetRepository;
 
+    // 메일은 대기열에 저장만 하고 발송은 EmailDispatchWorker가 처리
+    @Transactional
     public void sendVerificationEmail(String email, LocalDateTime requestedAt) {
 
         // 이메일 중복 등록 검증
@@ -52,14 +49,11 @@ public class EmailService {
                 .build();
         emailVerificationRepository.save(verification);
 
-        SimpleMailMessage mailMessage = new SimpleMailMessage();
-        mailMessage.setFrom(String.format("딸꾹 <%s>", serviceEmail));
-        mailMessage.setTo(email);
-        mailMessage.setSubject("딸꾹 회원가입 인증코드 입니다.");
-        mailMessage.setText(verification.generateCodeMessage());
-        mailSender.send(mailMessage);
+        emailDispatchService.enqueue(email, "딸꾹 회원가입 인증코드 입니다.", verification.generateCodeMessage(),
+                verification.getCreatedAt().plusMinutes(verification.getExpirationTimeInMinutes()));
     }
 
+    @Transactional
     public void sendPasswordResetEmail(PasswordResetRequestDTO passwordResetRequestDTO) {
 
         Member member = memberRepository.findByEmail(passwordResetRequestDTO.getEmail())
@@ -76,15 +70,11 @@ public class EmailService {
 
         passwordResetRepository.save(passwordReset);
 
-        SimpleMailMessage mailMessage = new SimpleMailMessage();
-        mailMessage.setFrom(String.format("딸꾹 <%s>", serviceEmail));
-        mailMessage.setTo(passwordResetRequestDTO.getEmail());
-        mailMessage.setSubject("딸꾹 비밀번호 초기화 코드");
-        mailMessage.setText("비밀번호를 재설정하려면 아래 코드를 입력하세요:\n\n"
-                + "인증코드 : " + resetCode + "\n\n"
-                + "이 링크는 5분간 유효합니다.");
-
-        mailSender.send(mailMessage);
+        emailDispatchService.enqueue(passwordResetRequestDTO.getEmail(), "딸꾹 비밀번호 초기화 코드",
+                "비밀번호를 재설정하려면 아래 코드를 입력하세요:\n\n"
+                        + "인증코드 : " + resetCode + "\n\n"
+                        + "이 링크는 5분간 유효합니다.",
+                expirationTime);
     }
 
     private String generateRandomCode() {
@@ -13,25 +13,30 @@ import com.drumtong.backend.common.exception.NotFoundException;
 import com.drumtong.backend.common.exception.UnauthorizedException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import com.drumtong.backend.common.response.ErrorStatus;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.time.LocalDateTime;
 
+/**
+ * 회원 가입 / 로그인 / 비밀번호 초기화
+ * 비밀번호 해시는 PasswordHashingService 풀에서 기다릴 수 있으므로 트랜잭션 밖에서 실행해서
+ * 해시를 기다리는 동안 DB 커넥션을 잡고 있지 않도록 함
+ */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MemberService {
 
     private final MemberRepository memberRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHashingService passwordHashingService;
     private final EmailVerificationRepository emailVerificationRepository;
     private final JwtService jwtService;
     private final PasswordResetRepository passwordResetRepository;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
     public void registerMember(MemberRegisterRequestDTO memberRegisterRequestDTO) {
 
         // 이메일 중복 검증
@@ -51,18 +56,20 @@ public class MemberService {
             throw new BadRequestException(ErrorStatus.ALREADY_REGISTER_NICKNAME_EXCPETION.getMessage());
         }
 
+        // 해시가 끝난 뒤 저장만 짧은 트랜잭션으로 실행
+        String encodedPassword = passwordHashingService.encode(memberRegisterRequestDTO.getPassword());
+
         // Member 엔티티 생성
         Member member = Member.builder()
                 .email(memberRegisterRequestDTO.getEmail())
-                .password(passwordEncoder.encode(memberRegisterRequestDTO.getPassword()))
+                .password(encodedPassword)
                 .nickname(memberRegisterRequestDTO.getNickname())
                 .build();
 
         memberRepository.save(member);
     }
 
-    // 로그인
-    @Transactional(readOnly = true)
+    // 로그인 (회원 조회 후 트랜잭션 없이 비밀번호 검증)
     public MemberLoginResponseDTO login(MemberLoginRequestDTO memberLoginRequestDTO) {
 
         // 이메일로 회원 검색
@@ -70,7 +77,7 @@ public class MemberService {
                 .orElseThrow(() -> new NotFoundException(ErrorStatus.EMAIL_NOT_FOUND_EXCEPTION.getMessage()));
 
         // 비밀번호 검증
-        if (!passwordEncoder.matches(memberLoginRequestDTO.getPassword(), member.getPassword())) {
+        if (!passwordHashingService.matches(memberLoginRequestDTO.getPassword(), member.getPassword())) {
             throw new BadRequestException(ErrorStatus.WRONG_PASSWORD_EXCEPTION.getMessage());
         }
 
@@ -83,8 +90,7 @@ public class MemberService {
         );
     }
 
-    // 비밀번호 초기화
-    @Transactional
+    // 비밀번호 초기화 (새 비밀번호 해시 후 변경/코드 삭제만 트랜잭션으로 실행)
     public void resetPassword(PasswordResetConfirmDTO passwordResetConfirmDTO) {
 
         // 인증 코드 체크
@@ -96,13 +102,17 @@ public class MemberService {
             throw new UnauthorizedException(ErrorStatus.EXPIRED_PASSWORD_RESET_CODE_EXCEPTION.getMessage());
         }
 
-        Member member = memberRepository.findByEmail(passwordReset.getEmail())
-                .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND_EXCEPTION.getMessage()));
+        String encodedPassword = passwordHashingService.encode(passwordResetConfirmDTO.getNewPassword());
 
-        member.updatePassword(passwordEncoder.encode(passwordResetConfirmDTO.getNewPassword()));
-        memberRepository.save(member);
+        transactionTemplate.executeWithoutResult(status -> {
+            Member member = memberRepository.findByEmail(passwordReset.getEmail())
+                    .orElseThrow(() -> new NotFoundException(ErrorStatus.USER_NOT_FOUND_EXCEPTION.getMessage()));
+
+            member.updatePassword(encodedPassword);
+            memberRepository.save(member);
 
-        passwordResetRepository.delete(passwordReset);
+            passwordResetRepository.delete(passwordReset);
+        });
     }
 
     // 사용자 정보 조회
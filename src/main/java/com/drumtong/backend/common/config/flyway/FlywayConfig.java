@@ -0,0 +1,33 @@
+package com.drumtong.backend.common.config.flyway;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    /**
+     * 기존 DB는 Hibernate auto-DDL로 만들어져 flyway_schema_history가 없으므로 버전 0으로 baseline 후
+     * V1부터 모두 실행 (V1은 이미 있는 테이블을 건너뛰도록 작성)
+     */
+    @Bean
+    public FlywayConfigurationCustomizer baselineCustomizer() {
+        return configuration -> configuration
+                .baselineOnMigrate(true)
+                .baselineVersion("0");
+    }
+
+    /**
+     * 스키마는 Flyway가 관리하므로 Hibernate는 엔티티와 스키마가 맞는지 검증만 함
+     * 배포 설정에 남아 있는 ddl-auto(update 등)보다 우선하며, Flyway를 끈 환경(테스트 프로필)에는 적용하지 않음
+     */
+    @Bean
+    @ConditionalOnProperty(name = "spring.flyway.enabled", havingValue = "true", matchIfMissing = true)
+    public HibernatePropertiesCustomizer validateSchemaCustomizer() {
+        return properties -> properties.put(AvailableSettings.HBM2DDL_AUTO, "validate");
+    }
+}
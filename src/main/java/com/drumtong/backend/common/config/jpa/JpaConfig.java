@@ -0,0 +1,26 @@
+package com.drumtong.backend.common.config.jpa;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    // JDBC 배치 크기 (시퀀스 allocationSize와 맞춤)
+    private static final int JDBC_BATCH_SIZE = 50;
+
+    /**
+     * 그룹 항목 일괄 저장 등에서 INSERT/UPDATE를 JDBC 배치로 묶어서 전송
+     * application.yml에 같은 설정이 있으면 그 값을 우선 사용
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, JDBC_BATCH_SIZE);
+            properties.putIfAbsent(AvailableSettings.ORDER_INSERTS, true);
+            properties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
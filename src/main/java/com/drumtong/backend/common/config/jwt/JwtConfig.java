@@ -1,8 +1,8 @@
 package com.drumtong.backend.common.config.jwt;
 
 import com.drumtong.backend.api.member.jwt.filter.JwtAuthenticationProcessingFilter;
-import com.drumtong.backend.api.member.jwt.service.JwtService;
-import com.drumtong.backend.api.member.repository.MemberRepository;
+import com.drumtong.backend.api.member.jwt.service.MemberPrincipalCache;
+import com.drumtong.backend.api.member.jwt.service.VerifiedTokenCache;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,11 +11,11 @@ import org.springframework.context.annotation.Configuration;
 @RequiredArgsConstructor
 public class JwtConfig {
 
-    private final JwtService jwtService;
-    private final MemberRepository memberRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final MemberPrincipalCache memberPrincipalCache;
 
     @Bean
     public JwtAuthenticationProcessingFilter jwtAuthenticationProcessingFilter() {
-        return new JwtAuthenticationProcessingFilter(jwtService, memberRepository);
+        return new JwtAuthenticationProcessingFilter(verifiedTokenCache, memberPrincipalCache);
     }
 }
\ No newline at end of file
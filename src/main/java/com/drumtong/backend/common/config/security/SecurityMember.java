@@ -5,14 +5,12 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+// 인증된 회원 (Access Token의 회원 ID만 보관, 나머지 정보는 필요한 곳에서 조회)
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 public class SecurityMember{
     private Long id;
-    private String email;
-    private String password;
-    private int totalpaid;
 
-}
\ No newline at end of file
+}
@@ -21,6 +21,13 @@ public enum ErrorStatus {
     INVALID_PASSWORD_RESET_CODE_EXCEPTION(HttpStatus.BAD_REQUEST,"유효하지 않은 비밀번호 초기화 인증코드 입니다."),
     GROUP_ALREADY_EXISTS_EXCEPTION(HttpStatus.BAD_REQUEST,"이미 존재하는 그룹입니다."),
     ALREADY_REGISTER_NICKNAME_EXCPETION(HttpStatus.BAD_REQUEST, "이미 등록된 닉네임 입니다."),
+    INVALID_EXPENSE_MONTH_RANGE_EXCEPTION(HttpStatus.BAD_REQUEST, "조회 개월 수는 1개월 이상 60개월 이하만 가능합니다."),
+    INVALID_PAGE_CURSOR_EXCEPTION(HttpStatus.BAD_REQUEST, "올바르지 않은 페이지 커서입니다."),
+    INVALID_PAGE_SIZE_EXCEPTION(HttpStatus.BAD_REQUEST, "페이지 크기는 1 이상이어야 합니다."),
+    INVALID_PHOTO_TYPE_EXCEPTION(HttpStatus.BAD_REQUEST, "지원하지 않는 사진 형식입니다."),
+    INVALID_PHOTO_SIZE_EXCEPTION(HttpStatus.BAD_REQUEST, "사진 크기가 올바르지 않습니다."),
+    INVALID_PHOTO_KEY_EXCEPTION(HttpStatus.BAD_REQUEST, "올바르지 않은 사진 key 입니다."),
+    PHOTO_CHANGED_EXCEPTION(HttpStatus.BAD_REQUEST, "확인 중에 사진이 변경되었습니다. 다시 업로드해 주세요."),
 
     /**
      * 401 UNAUTHORIZED
@@ -38,12 +45,19 @@ public enum ErrorStatus {
     USER_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "해당 사용자를 찾을 수 없습니다."),
     EMAIL_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "해당 이메일을 찾을 수 없습니다."),
     GROUP_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "해당 그룹을 찾을 수 없습니다."),
+    CALENDAR_ENTRY_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "해당 캘린더 항목을 찾을 수 없습니다."),
+    PHOTO_NOT_FOUND_EXCEPTION(HttpStatus.NOT_FOUND, "업로드된 사진을 찾을 수 없습니다."),
 
     /**
      * 500 SERVER_ERROR
      */
     FAIL_UPLOAD_EXCEPTION(HttpStatus.INTERNAL_SERVER_ERROR,"파일 업로드 실패하였습니다."),
 
+    /**
+     * 503 SERVICE_UNAVAILABLE
+     */
+    PASSWORD_HASHING_BUSY_EXCEPTION(HttpStatus.SERVICE_UNAVAILABLE,"요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해주세요."),
+
     ;
 
     private final HttpStatus httpStatus;
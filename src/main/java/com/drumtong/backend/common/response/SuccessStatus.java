@@ -27,6 +27,9 @@ public enum SuccessStatus {
     GET_GROUP_INFO_LIST_SUCCESS(HttpStatus.OK, "그룹 목록 조회 성공"),
     SEND_GROUP_DELETE_SUCCESS(HttpStatus.OK, "그룹 삭제 성공"),
 
+    ISSUE_PHOTO_UPLOAD_URL_SUCCESS(HttpStatus.OK, "사진 업로드 URL 발급 성공"),
+    ATTACH_PHOTO_SUCCESS(HttpStatus.OK, "사진 등록 성공"),
+
 
     /**
      * 201
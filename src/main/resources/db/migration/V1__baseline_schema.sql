@@ -0,0 +1,134 @@
+-- 엔티티 기준 기본 스키마
+-- 기존 DB(Hibernate auto-DDL로 생성)에서는 이미 있는 테이블/시퀀스를 건너뜀
+
+create sequence if not exists calendar_entries_seq start with 1 increment by 50;
+create sequence if not exists calendar_drinks_seq start with 1 increment by 50;
+
+create table if not exists member (
+    id          bigint generated by default as identity primary key,
+    email       varchar(255),
+    password    varchar(255),
+    nickname    varchar(255),
+    total_paid  integer      not null,
+    created_at  timestamp(6),
+    updated_at  timestamp(6)
+);
+
+create table if not exists email_verification (
+    id                          bigint generated by default as identity primary key,
+    email                       varchar(255),
+    code                        varchar(255),
+    expiration_time_in_minutes  integer,
+    is_verified                 boolean not null,
+    created_at                  timestamp(6),
+    updated_at                  timestamp(6)
+);
+
+create table if not exists password_reset (
+    id               bigint generated by default as identity primary key,
+    email            varchar(255),
+    code             varchar(255),
+    expiration_time  timestamp(6)
+);
+
+create table if not exists email_dispatch_queue (
+    id               bigint generated by default as identity primary key,
+    recipient        varchar(255) not null,
+    subject          varchar(255) not null,
+    body             text         not null,
+    status           varchar(10)  not null,
+    attempts         integer      not null,
+    next_attempt_at  timestamp(6) not null,
+    locked_until     timestamp(6),
+    last_error       text,
+    created_at       timestamp(6) not null,
+    sent_at          timestamp(6)
+);
+
+create table if not exists group_info (
+    id           bigint generated by default as identity primary key,
+    leader_id    bigint,
+    name         varchar(255),
+    description  varchar(255),
+    total_paid   integer default 0
+);
+
+create table if not exists group_members (
+    id         bigint generated by default as identity primary key,
+    group_id   bigint,
+    member_id  bigint
+);
+
+create table if not exists drinks (
+    id    bigint generated by default as identity primary key,
+    name  varchar(100),
+    type  varchar(50)
+);
+
+create table if not exists calendar_entries (
+    id               bigint primary key,
+    group_id         bigint,
+    user_id          bigint,
+    drinking_date    date,
+    memo             text,
+    total_price      integer,
+    photo_url        varchar(255),
+    photo_status     varchar(10),
+    thumbnail_url    varchar(255),
+    created_at       timestamp(6),
+    is_group_shared  boolean,
+    group_entry_id   bigint
+);
+
+create table if not exists calendar_drinks (
+    id           bigint primary key,
+    calendar_id  bigint references calendar_entries (id),
+    drink_id     bigint references drinks (id),
+    quantity     integer
+);
+
+create table if not exists group_fanout_outbox (
+    id               bigint generated by default as identity primary key,
+    group_entry_id   bigint       not null,
+    group_id         bigint       not null,
+    status           varchar(10)  not null,
+    attempts         integer      not null,
+    next_attempt_at  timestamp(6) not null,
+    last_error       text,
+    created_at       timestamp(6) not null,
+    processed_at     timestamp(6)
+);
+
+create table if not exists group_fanout_outbox_members (
+    outbox_id  bigint not null references group_fanout_outbox (id),
+    member_id  bigint
+);
+
+create table if not exists daily_spend_rollup (
+    id           bigint generated by default as identity primary key,
+    owner_type   varchar(10) not null,
+    owner_id     bigint      not null,
+    spend_date   date        not null,
+    total_price  integer     not null,
+    entry_count  integer     not null,
+    constraint uk_daily_spend_rollup_owner_date unique (owner_type, owner_id, spend_date)
+);
+
+create table if not exists daily_spend_rollup_drinks (
+    rollup_id   bigint      not null references daily_spend_rollup (id),
+    drink_type  varchar(50) not null,
+    quantity    integer,
+    primary key (rollup_id, drink_type)
+);
+
+-- 이전 버전에서 엔티티 @Index로 만들던 인덱스
+create index if not exists idx_calendar_entries_user_date_id
+    on calendar_entries (user_id, drinking_date desc, id desc);
+create index if not exists idx_calendar_entries_group_date_id
+    on calendar_entries (group_id, drinking_date desc, id desc);
+create index if not exists idx_group_fanout_outbox_status_next
+    on group_fanout_outbox (status, next_attempt_at);
+create index if not exists idx_group_fanout_outbox_group_entry
+    on group_fanout_outbox (group_entry_id);
+create index if not exists idx_email_dispatch_queue_status_next
+    on email_dispatch_queue (status, next_attempt_at);
@@ -0,0 +1,55 @@
+-- 조회 조건별 인덱스
+
+-- calendar_entries
+-- user_id / group_id (+ drinking_date) 조회는 V1의 (user_id|group_id, drinking_date desc, id desc) 인덱스 사용
+-- findByUserIdAndIsGroupSharedTrue, findGroupSharedPageByUserId
+create index if not exists idx_calendar_entries_user_shared_date_id
+    on calendar_entries (user_id, drinking_date desc, id desc)
+    where is_group_shared = true;
+-- findByGroupIdAndIsGroupSharedTrue
+create index if not exists idx_calendar_entries_group_shared
+    on calendar_entries (group_id)
+    where is_group_shared = true;
+-- findByGroupEntryId, findByGroupIdAndGroupEntryId
+create index if not exists idx_calendar_entries_group_entry
+    on calendar_entries (group_entry_id);
+-- 사진 상태 변경 / 삭제 전 참조 확인 / 고아 객체 정리
+create index if not exists idx_calendar_entries_photo_url
+    on calendar_entries (photo_url);
+create index if not exists idx_calendar_entries_thumbnail_url
+    on calendar_entries (thumbnail_url);
+
+-- calendar_drinks: 항목별 음료 조회/삭제 (FK에는 인덱스가 자동으로 생기지 않음)
+create index if not exists idx_calendar_drinks_calendar
+    on calendar_drinks (calendar_id);
+
+-- group_members
+-- 중복 참여 행 정리 후 (group_id, member_id) 유니크 (findByGroupId, findByGroupIdAndMemberId)
+delete from group_members a
+    using group_members b
+    where a.group_id = b.group_id
+      and a.member_id = b.member_id
+      and a.id > b.id;
+-- 엔티티 @UniqueConstraint와 같은 이름의 제약조건으로 생성
+do $$
+begin
+    if not exists (select 1 from pg_constraint where conname = 'uk_group_members_group_member') then
+        alter table group_members
+            add constraint uk_group_members_group_member unique (group_id, member_id);
+    end if;
+end
+$$;
+-- findByMemberId
+create index if not exists idx_group_members_member
+    on group_members (member_id);
+
+-- member / 인증
+create index if not exists idx_member_email on member (email);
+create index if not exists idx_member_nickname on member (nickname);
+create index if not exists idx_email_verification_email on email_verification (email);
+create index if not exists idx_email_verification_code on email_verification (code);
+create index if not exists idx_password_reset_code on password_reset (code);
+
+-- element collection 조회 (소유 행 ID)
+create index if not exists idx_group_fanout_outbox_members_outbox
+    on group_fanout_outbox_members (outbox_id);
@@ -0,0 +1,7 @@
+-- IDENTITY에서 SEQUENCE(allocationSize = 50)로 바뀐 테이블의 시퀀스를 기존 최대 ID 이후로 맞춤
+select setval('calendar_entries_seq',
+              greatest((select coalesce(max(id), 0) from calendar_entries) + 50,
+                       (select last_value from calendar_entries_seq)));
+select setval('calendar_drinks_seq',
+              greatest((select coalesce(max(id), 0) from calendar_drinks) + 50,
+                       (select last_value from calendar_drinks_seq)));
@@ -0,0 +1,5 @@
+-- GroupInfoQueryService 조회 조건별 인덱스
+-- findAllByLeaderIdOrderByIdAsc
+create index if not exists idx_group_info_leader on group_info (leader_id, id);
+-- findByName (그룹 이름 조회 / 수정 / totalPaid 조회)
+create index if not exists idx_group_info_name on group_info (name);
@@ -0,0 +1,47 @@
+-- 그룹 탐색 목록 (그룹원 수 / 최근 활동 정렬, 이름 검색)
+
+-- 이름 부분 검색용 pg_trgm 확장
+-- create extension은 superuser(또는 관리형 PostgreSQL의 확장 관리 권한)가 필요함
+-- 권한이 없거나 서버에 확장이 없으면 건너뛰고 trigram 인덱스 없이 진행 (부분 검색은 인덱스 없이 동작)
+-- 이 경우 DBA가 확장을 설치한 뒤 아래 idx_group_info_name_trgm을 직접 만들어야 함
+do $$
+begin
+    create extension if not exists pg_trgm;
+exception when insufficient_privilege or undefined_file then
+    raise warning 'pg_trgm extension not installed (%), skipping idx_group_info_name_trgm', sqlerrm;
+end
+$$;
+
+-- 그룹원 수: GroupMemberCommandService에서 증감
+alter table group_info add column if not exists member_count integer not null default 0;
+update group_info g
+    set member_count = (select count(*) from group_members gm where gm.group_id = g.id);
+
+-- 마지막 활동 시각: 그룹 항목 작성 시 갱신 (항목이 없는 그룹은 마이그레이션 시각)
+alter table group_info add column if not exists last_activity_at timestamp(6);
+update group_info g
+    set last_activity_at = coalesce(
+            (select max(ce.created_at) from calendar_entries ce where ce.group_id = g.id),
+            now())
+    where g.last_activity_at is null;
+alter table group_info alter column last_activity_at set default now();
+alter table group_info alter column last_activity_at set not null;
+
+-- keyset 정렬 (정렬 값, id 내림차순)
+create index if not exists idx_group_info_member_count_id
+    on group_info (member_count desc, id desc);
+create index if not exists idx_group_info_last_activity_id
+    on group_info (last_activity_at desc, id desc);
+
+-- 이름 접두어 검색 (lower(name) like 'abc%')
+create index if not exists idx_group_info_name_prefix
+    on group_info (lower(name) text_pattern_ops);
+-- 이름 부분 검색 (lower(name) like '%abc%'), pg_trgm이 있을 때만
+do $$
+begin
+    if exists (select 1 from pg_extension where extname = 'pg_trgm') then
+        create index if not exists idx_group_info_name_trgm
+            on group_info using gin (lower(name) gin_trgm_ops);
+    end if;
+end
+$$;
@@ -0,0 +1,7 @@
+-- 메일 본문의 인증코드 만료 시각 (이후에는 발송하지 않고 삭제)
+alter table email_dispatch_queue add column if not exists expires_at timestamp(6);
+
+-- 기존 메일은 모두 5분짜리 인증코드 / 비밀번호 초기화 메일
+update email_dispatch_queue
+    set expires_at = created_at + interval '5 minutes'
+    where expires_at is null;
@@ -0,0 +1,13 @@
+-- 목록 페이지 keyset 인덱스
+-- 날짜가 없는 항목은 0001-01-01로 보고 맨 뒤에 정렬 (스트리밍 조회의 drinking_date desc nulls last 순서와 같음)
+-- CalendarEntryRepository.findPageByUserId / findPageByGroupId / findGroupSharedPageByUserId
+create index if not exists idx_calendar_entries_user_page
+    on calendar_entries (user_id, coalesce(drinking_date, date '0001-01-01') desc, id desc);
+create index if not exists idx_calendar_entries_group_page
+    on calendar_entries (group_id, coalesce(drinking_date, date '0001-01-01') desc, id desc);
+create index if not exists idx_calendar_entries_user_shared_page
+    on calendar_entries (user_id, coalesce(drinking_date, date '0001-01-01') desc, id desc)
+    where is_group_shared = true;
+
+-- findByUserIdAndIsGroupSharedTrue도 위 부분 인덱스로 처리
+drop index if exists idx_calendar_entries_user_shared_date_id;
@@ -0,0 +1,12 @@
+-- 사진이 항목에 지정된 시각 (업로드 결과 없이 오래 PENDING인 사진을 FAILED로 바꾸는 작업용)
+alter table calendar_entries add column if not exists photo_staged_at timestamp(6);
+
+-- 기존 PENDING 사진은 작성 시각 기준
+update calendar_entries
+    set photo_staged_at = created_at
+    where photo_status = 'PENDING' and photo_staged_at is null;
+
+-- CalendarEntryRepository.failStalePhotos
+create index if not exists idx_calendar_entries_pending_photo
+    on calendar_entries (photo_staged_at)
+    where photo_status = 'PENDING';
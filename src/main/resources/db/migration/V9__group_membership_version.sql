@@ -0,0 +1,3 @@
+-- 그룹원 변경 버전 (GroupInfoRepository.addMemberCount에서 증가)
+-- 서버마다 따로 있는 GroupMembershipIndex 캐시가 조회 시 이 값과 비교해서 다른 서버의 변경도 반영
+alter table group_info add column if not exists membership_version bigint not null default 0;
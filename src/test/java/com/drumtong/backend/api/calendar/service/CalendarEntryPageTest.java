@@ -0,0 +1,153 @@
+package com.drumtong.backend.api.calendar.service;
+
+import com.drumtong.backend.api.calendar.dto.CalendarEntryPageDto;
+import com.drumtong.backend.api.calendar.dto.CalendarEntryResponseDto;
+import com.drumtong.backend.api.calendar.entity.CalendarEntry;
+import com.drumtong.backend.api.calendar.repository.CalendarEntryRepository;
+import com.drumtong.backend.api.groupmember.service.GroupMembershipIndex;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 페이지 조회를 끝까지 넘긴 결과가 NDJSON 스트리밍 조회와 같은 항목, 같은 순서인지 확인
+ * (날짜가 없는 항목 포함)
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(CalendarEntryService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class CalendarEntryPageTest {
+    private static final Long USER_ID = 1L;
+    private static final Long GROUP_ID = 101L;
+    private static final int PAGE_SIZE = 3;
+
+    @MockitoBean
+    private ImageUploadService imageUploadService;
+
+    @MockitoBean
+    private ImageCleanupService imageCleanupService;
+
+    @MockitoBean
+    private DrinkService drinkService;
+
+    @MockitoBean
+    private DailySpendRollupService dailySpendRollupService;
+
+    @MockitoBean
+    private GroupFanoutService groupFanoutService;
+
+    @MockitoBean
+    private GroupMembershipIndex groupMembershipIndex;
+
+    @Autowired
+    private CalendarEntryService calendarEntryService;
+
+    @Autowired
+    private CalendarEntryRepository calendarEntryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        // 날짜 있는 항목 사이사이에 날짜 없는 항목이 섞여서 저장된 상태
+        LocalDate date = LocalDate.of(2025, 3, 14);
+        for (int i = 0; i < 5; i++) {
+            saveEntry(date.minusDays(i % 3), i % 2 == 0);
+            saveEntry(null, i % 2 == 1);
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void userPagesMatchStream() {
+        assertPagesMatchStream(
+                (cursor, size) -> calendarEntryService.listEntriesByUser(USER_ID, cursor, size),
+                out -> calendarEntryService.streamEntriesByUser(USER_ID, out),
+                10);
+    }
+
+    @Test
+    void groupPagesMatchStream() {
+        assertPagesMatchStream(
+                (cursor, size) -> calendarEntryService.getEntriesByGroupId(GROUP_ID, cursor, size),
+                out -> calendarEntryService.streamEntriesByGroupId(GROUP_ID, out),
+                10);
+    }
+
+    @Test
+    void groupSharedPagesMatchStream() {
+        assertPagesMatchStream(
+                (cursor, size) -> calendarEntryService.getGroupSharedEntriesByUserId(USER_ID, cursor, size),
+                out -> calendarEntryService.streamGroupSharedEntriesByUserId(USER_ID, out),
+                5);
+    }
+
+    private void assertPagesMatchStream(BiFunction<String, Integer, CalendarEntryPageDto> page,
+                                        Consumer<OutputStream> stream,
+                                        int expectedSize) {
+        List<Long> paged = new ArrayList<>();
+        String cursor = null;
+        do {
+            CalendarEntryPageDto result = page.apply(cursor, PAGE_SIZE);
+            result.getEntries().stream().map(CalendarEntryResponseDto::getId).forEach(paged::add);
+            cursor = result.getNextCursor();
+        } while (cursor != null);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        stream.accept(out);
+        List<Long> streamed = out.toString(StandardCharsets.UTF_8).lines()
+                .map(this::readId)
+                .toList();
+
+        assertThat(paged).hasSize(expectedSize);
+        assertThat(paged).containsExactlyElementsOf(streamed);
+    }
+
+    private Long readId(String line) {
+        try {
+            return objectMapper.readTree(line).get("id").asLong();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void saveEntry(LocalDate drinkingDate, boolean groupShared) {
+        calendarEntryRepository.save(CalendarEntry.builder()
+                .userId(USER_ID)
+                .groupId(GROUP_ID)
+                .drinkingDate(drinkingDate)
+                .totalPrice(10000)
+                .isGroupShared(groupShared)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+}
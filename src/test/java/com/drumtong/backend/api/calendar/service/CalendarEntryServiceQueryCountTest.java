@@ -0,0 +1,184 @@
+package com.drumtong.backend.api.calendar.service;
+
+import com.drumtong.backend.api.calendar.dto.CalendarEntryPageDto;
+import com.drumtong.backend.api.calendar.dto.CalendarEntryResponseDto;
+import com.drumtong.backend.api.calendar.entity.CalendarDrink;
+import com.drumtong.backend.api.calendar.entity.CalendarEntry;
+import com.drumtong.backend.api.calendar.entity.Drink;
+import com.drumtong.backend.api.calendar.repository.CalendarDrinkRepository;
+import com.drumtong.backend.api.calendar.repository.CalendarEntryRepository;
+import com.drumtong.backend.api.calendar.repository.DrinkRepository;
+import com.drumtong.backend.api.groupmember.service.GroupMembershipIndex;
+import com.drumtong.backend.support.QueryCounter;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 항목 목록 조회의 SQL 수가 항목 수와 관계없이 일정한지 확인 (항목 조회 1번 + 음료 일괄 조회 1번)
+ * 페이지 조회는 페이지마다 같은 수
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(CalendarEntryService.class)
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class CalendarEntryServiceQueryCountTest {
+    private static final LocalDate DRINKING_DATE = LocalDate.of(2025, 3, 14);
+    private static final long EXPECTED_STATEMENTS = 2;
+    private static final int MAX_PAGE_SIZE = 100;
+
+    @MockitoBean
+    private ImageUploadService imageUploadService;
+
+    @MockitoBean
+    private ImageCleanupService imageCleanupService;
+
+    @MockitoBean
+    private DrinkService drinkService;
+
+    @MockitoBean
+    private DailySpendRollupService dailySpendRollupService;
+
+    @MockitoBean
+    private GroupFanoutService groupFanoutService;
+
+    @MockitoBean
+    private GroupMembershipIndex groupMembershipIndex;
+
+    @Autowired
+    private CalendarEntryService calendarEntryService;
+
+    @Autowired
+    private CalendarEntryRepository calendarEntryRepository;
+
+    @Autowired
+    private CalendarDrinkRepository calendarDrinkRepository;
+
+    @Autowired
+    private DrinkRepository drinkRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private QueryCounter queryCounter;
+    private Drink soju;
+    private Drink beer;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManager, entityManagerFactory);
+        soju = drinkRepository.save(Drink.builder().name("소주").type("SOJU").build());
+        beer = drinkRepository.save(Drink.builder().name("맥주").type("BEER").build());
+    }
+
+    @Test
+    void listEntriesByUserIssuesConstantStatements() {
+        assertConstantStatements(owner -> calendarEntryService.listEntriesByUser(owner.userId()));
+    }
+
+    @Test
+    void getEntriesByGroupIdIssuesConstantStatements() {
+        assertConstantStatements(owner -> calendarEntryService.getEntriesByGroupId(owner.groupId()));
+    }
+
+    @Test
+    void getGroupSharedEntriesByUserIdIssuesConstantStatements() {
+        assertConstantStatements(owner -> calendarEntryService.getGroupSharedEntriesByUserId(owner.userId()));
+    }
+
+    @Test
+    void getDailyEntriesIssuesConstantStatements() {
+        assertConstantStatements(owner -> calendarEntryService.getDailyEntries(owner.userId(), DRINKING_DATE));
+    }
+
+    @Test
+    void listEntriesByUserPageIssuesConstantStatements() {
+        assertConstantStatements(owner ->
+                calendarEntryService.listEntriesByUser(owner.userId(), null, MAX_PAGE_SIZE).getEntries());
+    }
+
+    @Test
+    void getEntriesByGroupIdPageIssuesConstantStatements() {
+        assertConstantStatements(owner ->
+                calendarEntryService.getEntriesByGroupId(owner.groupId(), null, MAX_PAGE_SIZE).getEntries());
+    }
+
+    @Test
+    void getGroupSharedEntriesByUserIdPageIssuesConstantStatements() {
+        assertConstantStatements(owner ->
+                calendarEntryService.getGroupSharedEntriesByUserId(owner.userId(), null, MAX_PAGE_SIZE).getEntries());
+    }
+
+    @Test
+    void everyPageIssuesConstantStatements() {
+        Owner owner = saveEntries(new Owner(3L, 103L), 50);
+
+        List<CalendarEntryResponseDto> entries = new ArrayList<>();
+        String cursor = null;
+        do {
+            String after = cursor;
+            CalendarEntryPageDto page = queryCounter.assertStatements(EXPECTED_STATEMENTS,
+                    () -> calendarEntryService.listEntriesByUser(owner.userId(), after, 20));
+            entries.addAll(page.getEntries());
+            cursor = page.getNextCursor();
+        } while (cursor != null);
+
+        assertThat(entries).hasSize(50);
+        assertThat(entries).extracting(CalendarEntryResponseDto::getId).doesNotHaveDuplicates();
+    }
+
+    private void assertConstantStatements(Function<Owner, List<CalendarEntryResponseDto>> query) {
+        Owner small = saveEntries(new Owner(1L, 101L), 2);
+        Owner large = saveEntries(new Owner(2L, 102L), 50);
+
+        List<CalendarEntryResponseDto> smallResult =
+                queryCounter.assertStatements(EXPECTED_STATEMENTS, () -> query.apply(small));
+        List<CalendarEntryResponseDto> largeResult =
+                queryCounter.assertStatements(EXPECTED_STATEMENTS, () -> query.apply(large));
+
+        assertThat(smallResult).hasSize(2);
+        assertThat(largeResult).hasSize(50);
+        assertThat(largeResult).allSatisfy(entry -> assertThat(entry.getDrinks()).hasSize(2));
+    }
+
+    // 같은 날짜의 그룹 공유 항목을 음료 두 종류와 함께 저장
+    private Owner saveEntries(Owner owner, int count) {
+        for (int i = 0; i < count; i++) {
+            CalendarEntry entry = calendarEntryRepository.save(CalendarEntry.builder()
+                    .userId(owner.userId())
+                    .groupId(owner.groupId())
+                    .drinkingDate(DRINKING_DATE)
+                    .totalPrice(10000)
+                    .isGroupShared(true)
+                    .createdAt(LocalDateTime.now())
+                    .build());
+            calendarDrinkRepository.save(CalendarDrink.builder().calendarEntry(entry).drink(soju).quantity(2).build());
+            calendarDrinkRepository.save(CalendarDrink.builder().calendarEntry(entry).drink(beer).quantity(1).build());
+        }
+        return owner;
+    }
+
+    private record Owner(Long userId, Long groupId) {
+    }
+}
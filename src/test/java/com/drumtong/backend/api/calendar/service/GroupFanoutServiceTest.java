@@ -0,0 +1,150 @@
+package com.drumtong.backend.api.calendar.service;
+
+import com.drumtong.backend.api.calendar.dto.CalendarEntryRequestDto;
+import com.drumtong.backend.api.calendar.entity.GroupFanoutOutbox;
+import com.drumtong.backend.api.calendar.entity.GroupFanoutStatus;
+import com.drumtong.backend.api.calendar.repository.CalendarEntryRepository;
+import com.drumtong.backend.api.calendar.repository.GroupFanoutOutboxRepository;
+import com.drumtong.backend.api.groupInfo.repository.GroupInfoRepository;
+import com.drumtong.backend.api.groupmember.service.GroupMemberCommandService;
+import com.drumtong.backend.api.groupmember.service.GroupMembershipIndex;
+import com.drumtong.backend.api.member.repository.MemberRepository;
+import com.drumtong.backend.support.MeterRegistryTestConfig;
+import com.drumtong.backend.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.ImportAutoConfiguration;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 재시도를 소진한(FAILED) 멤버 복사 작업이 있어도 그룹 항목 삭제 후 금액이 맞는지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({CalendarEntryService.class, GroupFanoutService.class, GroupMemberCommandService.class,
+        GroupMembershipIndex.class, MeterRegistryTestConfig.class})
+@ImportAutoConfiguration(JacksonAutoConfiguration.class)
+class GroupFanoutServiceTest {
+    private static final int TOTAL_PRICE = 30000;
+
+    @MockitoBean
+    private ImageUploadService imageUploadService;
+
+    @MockitoBean
+    private ImageCleanupService imageCleanupService;
+
+    @MockitoBean
+    private DrinkService drinkService;
+
+    @MockitoBean
+    private DailySpendRollupService dailySpendRollupService;
+
+    @Autowired
+    private CalendarEntryService calendarEntryService;
+
+    @Autowired
+    private GroupFanoutService groupFanoutService;
+
+    @Autowired
+    private CalendarEntryRepository calendarEntryRepository;
+
+    @Autowired
+    private GroupFanoutOutboxRepository groupFanoutOutboxRepository;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private GroupInfoRepository groupInfoRepository;
+
+    @Autowired
+    private GroupMemberCommandService groupMemberCommandService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private List<Long> memberIds;
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        memberIds = List.of(saveMember("leader@ddalkkug.com"), saveMember("first@ddalkkug.com"),
+                saveMember("second@ddalkkug.com"));
+        groupId = groupInfoRepository.save(TestFixtures.group("fan-out", memberIds.get(0))).getId();
+        memberIds.forEach(memberId -> groupMemberCommandService.addMemberToGroup(groupId, memberId));
+    }
+
+    @Test
+    void deleteAfterFailedFanoutRestoresTotals() {
+        Long entryId = createGroupEntry();
+        markOutboxFailed();
+        assertThat(groupTotalPaid()).isEqualTo(TOTAL_PRICE);
+
+        calendarEntryService.deleteEntry(entryId);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertThat(groupTotalPaid()).isZero();
+        assertThat(memberIds).allSatisfy(memberId ->
+                assertThat(memberRepository.findById(memberId).orElseThrow().getTotalPaid()).isZero());
+        assertThat(calendarEntryRepository.findByGroupId(groupId)).isEmpty();
+        assertThat(groupFanoutOutboxRepository.findAll())
+                .extracting(GroupFanoutOutbox::getStatus)
+                .containsOnly(GroupFanoutStatus.DONE);
+    }
+
+    @Test
+    void retryFailedRequeuesExhaustedJobs() {
+        createGroupEntry();
+        markOutboxFailed();
+
+        assertThat(groupFanoutService.retryFailed()).isEqualTo(1);
+        entityManager.clear();
+
+        assertThat(groupFanoutOutboxRepository.findAll()).singleElement().satisfies(outbox -> {
+            assertThat(outbox.getStatus()).isEqualTo(GroupFanoutStatus.PENDING);
+            assertThat(outbox.getAttempts()).isZero();
+        });
+    }
+
+    private Long createGroupEntry() {
+        CalendarEntryRequestDto dto = new CalendarEntryRequestDto();
+        dto.setUserId(memberIds.get(0));
+        dto.setGroupId(groupId);
+        dto.setDrinkingDate(LocalDate.of(2025, 3, 14));
+        dto.setTotalPrice(TOTAL_PRICE);
+        Long entryId = calendarEntryService.createEntry(dto, null).getId();
+        entityManager.flush();
+        return entryId;
+    }
+
+    // 워커가 재시도를 모두 소진해서 멤버 항목이 만들어지지 않은 상태
+    private void markOutboxFailed() {
+        GroupFanoutOutbox outbox = groupFanoutOutboxRepository.findAll().get(0);
+        outbox.markRetry("S3 timeout", LocalDateTime.now(), 1);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    private int groupTotalPaid() {
+        return groupInfoRepository.findById(groupId).orElseThrow().getTotalPaid();
+    }
+
+    private Long saveMember(String email) {
+        return memberRepository.save(TestFixtures.member(email)).getId();
+    }
+}
@@ -0,0 +1,229 @@
+package com.drumtong.backend.api.calendar.service;
+
+import com.drumtong.backend.api.calendar.dto.ProcessedImage;
+import com.drumtong.backend.api.calendar.dto.StagedImage;
+import com.drumtong.backend.api.calendar.entity.PhotoStatus;
+import com.drumtong.backend.api.calendar.repository.CalendarEntryRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * 커밋 후 업로드 / 롤백 / 업로드 실패 / 대기열 초과·종료 후 거절 시 사진 상태와 임시 파일 확인
+ */
+class ImageUploadServiceTest {
+    private static final String DOMAIN = "https://storage.example.com";
+    private static final String BUCKET = "photos";
+
+    private final InMemoryPhotoStorage photoStorage = new InMemoryPhotoStorage();
+    private final ImageProcessingService imageProcessingService = mock(ImageProcessingService.class);
+    private final CalendarEntryRepository calendarEntryRepository = mock(CalendarEntryRepository.class);
+
+    private ImageUploadService imageUploadService;
+
+    @BeforeEach
+    void setUp() {
+        imageUploadService = newService(10);
+    }
+
+    @AfterEach
+    void tearDown() {
+        photoStorage.setGate(null);
+        imageUploadService.shutdown();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void uploadsProcessedImageOnlyAfterCommit() throws IOException {
+        ProcessedImage processed = new ProcessedImage(tempFile("main"), tempFile("thumb"), "image/jpeg");
+        when(imageProcessingService.processAsync(any())).thenReturn(CompletableFuture.completedFuture(processed));
+        StagedImage image = imageUploadService.stage(photo());
+
+        TransactionSynchronizationManager.initSynchronization();
+        imageUploadService.uploadAfterCommit(image);
+        assertThat(photoStorage.getObjects()).isEmpty();
+
+        commit();
+
+        verify(calendarEntryRepository, timeout(5000))
+                .updateUploadedPhoto(image.getUrl(), image.getUrl(), PhotoStatus.READY, image.getThumbnailUrl());
+        assertThat(photoStorage.getObjects()).containsOnlyKeys(image.getKey(), image.getThumbnailKey());
+        assertThat(new String(photoStorage.getObjects().get(image.getKey()), StandardCharsets.UTF_8)).isEqualTo("main");
+        assertThat(image.getFile()).doesNotExist();
+        assertThat(processed.getMainFile()).doesNotExist();
+        assertThat(processed.getThumbnailFile()).doesNotExist();
+    }
+
+    @Test
+    void uploadsOriginalWhenImageCannotBeProcessed() {
+        when(imageProcessingService.processAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+        StagedImage image = imageUploadService.stage(photo());
+
+        imageUploadService.uploadAfterCommit(image);
+
+        verify(calendarEntryRepository, timeout(5000))
+                .updateUploadedPhoto(image.getUrl(), image.getUrl(), PhotoStatus.READY, null);
+        assertThat(photoStorage.getObjects()).containsOnlyKeys(image.getKey());
+        assertThat(photoStorage.getContentType(image.getKey())).isEqualTo("image/jpeg");
+        assertThat(image.getFile()).doesNotExist();
+    }
+
+    @Test
+    void keepsOriginalExtensionWhenUploadingUnprocessedImage() {
+        when(imageProcessingService.processAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+        StagedImage image = imageUploadService.stage(
+                new MockMultipartFile("image", "photo.heic", "image/heic", "original".getBytes(StandardCharsets.UTF_8)));
+        assertThat(image.getOriginalKey()).endsWith(".heic");
+
+        imageUploadService.uploadAfterCommit(image);
+
+        verify(calendarEntryRepository, timeout(5000))
+                .updateUploadedPhoto(image.getUrl(), image.getOriginalUrl(), PhotoStatus.READY, null);
+        assertThat(photoStorage.getObjects()).containsOnlyKeys(image.getOriginalKey());
+        assertThat(photoStorage.getContentType(image.getOriginalKey())).isEqualTo("image/heic");
+    }
+
+    @Test
+    void deletesTempFileOnRollback() {
+        StagedImage image = imageUploadService.stage(photo());
+
+        TransactionSynchronizationManager.initSynchronization();
+        imageUploadService.uploadAfterCommit(image);
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+        }
+
+        assertThat(image.getFile()).doesNotExist();
+        assertThat(photoStorage.getObjects()).isEmpty();
+        verifyNoInteractions(imageProcessingService, calendarEntryRepository);
+    }
+
+    @Test
+    void marksPhotoFailedWhenStorageFails() {
+        photoStorage.setFailing(true);
+        when(imageProcessingService.processAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+        StagedImage image = imageUploadService.stage(photo());
+
+        imageUploadService.uploadAfterCommit(image);
+
+        verify(calendarEntryRepository, timeout(5000))
+                .updateUploadedPhoto(image.getUrl(), image.getUrl(), PhotoStatus.FAILED, null);
+        assertThat(image.getFile()).doesNotExist();
+    }
+
+    @Test
+    void marksPhotoFailedWhenRejectedAfterShutdown() throws IOException {
+        ProcessedImage processed = new ProcessedImage(tempFile("main"), tempFile("thumb"), "image/jpeg");
+        when(imageProcessingService.processAsync(any())).thenReturn(CompletableFuture.completedFuture(processed));
+        StagedImage image = imageUploadService.stage(photo());
+        imageUploadService.shutdown();
+
+        imageUploadService.uploadAfterCommit(image);
+
+        verify(calendarEntryRepository).updateUploadedPhoto(image.getUrl(), image.getUrl(), PhotoStatus.FAILED, null);
+        assertThat(photoStorage.getObjects()).isEmpty();
+        assertThat(image.getFile()).doesNotExist();
+        assertThat(processed.getMainFile()).doesNotExist();
+        assertThat(processed.getThumbnailFile()).doesNotExist();
+    }
+
+    @Test
+    void marksPhotoFailedWhenProcessingPoolRejects() {
+        when(imageProcessingService.processAsync(any())).thenThrow(new RejectedExecutionException("queue full"));
+        StagedImage image = imageUploadService.stage(photo());
+
+        imageUploadService.uploadAfterCommit(image);
+
+        verify(calendarEntryRepository).updateUploadedPhoto(image.getUrl(), image.getUrl(), PhotoStatus.FAILED, null);
+        verify(calendarEntryRepository, never()).updateUploadedPhoto(anyString(), anyString(), eq(PhotoStatus.READY), any());
+        assertThat(image.getFile()).doesNotExist();
+    }
+
+    @Test
+    void marksPhotoFailedWhenUploadQueueIsFull() {
+        imageUploadService.shutdown();
+        imageUploadService = newService(1);
+        when(imageProcessingService.processAsync(any())).thenReturn(CompletableFuture.completedFuture(null));
+        CountDownLatch gate = new CountDownLatch(1);
+        photoStorage.setGate(gate);
+
+        // 업로드 스레드 1개가 멈춰 있고 대기열(1개)도 찬 상태
+        StagedImage running = imageUploadService.stage(photo());
+        StagedImage queued = imageUploadService.stage(photo());
+        StagedImage rejected = imageUploadService.stage(photo());
+        imageUploadService.uploadAfterCommit(running);
+        imageUploadService.uploadAfterCommit(queued);
+        imageUploadService.uploadAfterCommit(rejected);
+
+        // 호출한 스레드에서 업로드하지 않고 바로 FAILED
+        verify(calendarEntryRepository)
+                .updateUploadedPhoto(rejected.getUrl(), rejected.getUrl(), PhotoStatus.FAILED, null);
+        assertThat(rejected.getFile()).doesNotExist();
+        assertThat(photoStorage.getObjects()).isEmpty();
+
+        gate.countDown();
+        verify(calendarEntryRepository, timeout(5000))
+                .updateUploadedPhoto(queued.getUrl(), queued.getUrl(), PhotoStatus.READY, null);
+        assertThat(photoStorage.getObjects()).containsOnlyKeys(running.getKey(), queued.getKey());
+    }
+
+    @Test
+    void failsStalePendingPhotos() {
+        LocalDateTime staleBefore = LocalDateTime.now().minusMinutes(30);
+        when(calendarEntryRepository.failStalePhotos(PhotoStatus.PENDING, PhotoStatus.FAILED, staleBefore))
+                .thenReturn(3);
+
+        assertThat(imageUploadService.failStaleUploads(staleBefore)).isEqualTo(3);
+    }
+
+    private ImageUploadService newService(int queueCapacity) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(mock(PlatformTransactionManager.class));
+        ImageUploadService service = new ImageUploadService(photoStorage, imageProcessingService,
+                calendarEntryRepository, transactionTemplate, new SimpleMeterRegistry(), 1, queueCapacity);
+        ReflectionTestUtils.setField(service, "domain", DOMAIN);
+        ReflectionTestUtils.setField(service, "bucketName", BUCKET);
+        ReflectionTestUtils.setField(service, "keyPrefix", "calendar/");
+        return service;
+    }
+
+    private static void commit() {
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            synchronization.afterCommit();
+            synchronization.afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        }
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    private static MockMultipartFile photo() {
+        return new MockMultipartFile("image", "photo.jpg", "image/jpeg", "original".getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static Path tempFile(String content) throws IOException {
+        Path file = Files.createTempFile("image-upload-test-", ".jpg");
+        Files.writeString(file, content);
+        return file;
+    }
+}
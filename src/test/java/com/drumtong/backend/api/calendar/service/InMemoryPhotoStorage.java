@@ -0,0 +1,53 @@
+package com.drumtong.backend.api.calendar.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * 테스트용 메모리 사진 저장소
+ */
+class InMemoryPhotoStorage implements PhotoStorage {
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, String> contentTypes = new ConcurrentHashMap<>();
+    private volatile boolean failing;
+    private volatile CountDownLatch gate;
+
+    @Override
+    public void put(String key, Path file, String contentType) throws IOException {
+        CountDownLatch current = gate;
+        if (current != null) {
+            try {
+                current.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("interrupted", e);
+            }
+        }
+        if (failing) {
+            throw new IOException("storage unavailable");
+        }
+        objects.put(key, Files.readAllBytes(file));
+        contentTypes.put(key, contentType);
+    }
+
+    void setFailing(boolean failing) {
+        this.failing = failing;
+    }
+
+    // gate가 열릴 때까지 업로드를 멈춤 (풀이 가득 찬 상태 재현용)
+    void setGate(CountDownLatch gate) {
+        this.gate = gate;
+    }
+
+    Map<String, byte[]> getObjects() {
+        return objects;
+    }
+
+    String getContentType(String key) {
+        return contentTypes.get(key);
+    }
+}
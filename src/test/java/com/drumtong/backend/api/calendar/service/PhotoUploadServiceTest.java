@@ -0,0 +1,90 @@
+package com.drumtong.backend.api.calendar.service;
+
+import com.drumtong.backend.api.calendar.entity.CalendarEntry;
+import com.drumtong.backend.api.calendar.entity.PhotoStatus;
+import com.drumtong.backend.api.calendar.repository.CalendarEntryRepository;
+import com.drumtong.backend.common.exception.BadRequestException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import software.amazon.awssdk.core.ResponseBytes;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.*;
+import software.amazon.awssdk.services.s3.presigner.S3Presigner;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * 직접 업로드한 사진을 확인한 버전 그대로 서버 key로 복사해서 연결하는지 확인
+ */
+class PhotoUploadServiceTest {
+    private static final Long MEMBER_ID = 7L;
+    private static final Long ENTRY_ID = 11L;
+    private static final String ETAG = "\"abc123\"";
+    private static final String UPLOAD_KEY = "calendar/uploads/7/photo.jpg";
+    private static final byte[] JPEG_HEADER = {(byte) 0xFF, (byte) 0xD8, (byte) 0xFF, (byte) 0xE0};
+
+    private final S3Client s3Client = mock(S3Client.class);
+    private final ImageUploadService imageUploadService = mock(ImageUploadService.class);
+    private final CalendarEntryRepository calendarEntryRepository = mock(CalendarEntryRepository.class);
+
+    private PhotoUploadService photoUploadService;
+    private CalendarEntry entry;
+
+    @BeforeEach
+    void setUp() {
+        photoUploadService = new PhotoUploadService(s3Client, mock(S3Presigner.class), imageUploadService,
+                mock(ImageCleanupService.class), calendarEntryRepository,
+                new TransactionTemplate(mock(PlatformTransactionManager.class)));
+        ReflectionTestUtils.setField(photoUploadService, "bucketName", "photos");
+        ReflectionTestUtils.setField(photoUploadService, "maxSizeBytes", 1024L);
+
+        when(imageUploadService.getKeyPrefix()).thenReturn("calendar/");
+        when(imageUploadService.urlOf(any())).thenAnswer(invocation -> "https://cdn/" + invocation.getArgument(0));
+        when(s3Client.headObject(any(HeadObjectRequest.class))).thenReturn(HeadObjectResponse.builder()
+                .contentType("image/jpeg")
+                .contentLength(100L)
+                .eTag(ETAG)
+                .build());
+        when(s3Client.getObjectAsBytes(any(GetObjectRequest.class)))
+                .thenReturn(ResponseBytes.fromByteArray(GetObjectResponse.builder().build(), JPEG_HEADER));
+
+        entry = CalendarEntry.builder().id(ENTRY_ID).userId(MEMBER_ID).build();
+        when(calendarEntryRepository.findById(ENTRY_ID)).thenReturn(Optional.of(entry));
+    }
+
+    @Test
+    void copiesVerifiedVersionIntoPhotosPrefix() {
+        photoUploadService.attachPhoto(MEMBER_ID, ENTRY_ID, UPLOAD_KEY);
+
+        ArgumentCaptor<CopyObjectRequest> copy = ArgumentCaptor.forClass(CopyObjectRequest.class);
+        verify(s3Client).copyObject(copy.capture());
+        assertThat(copy.getValue().sourceKey()).isEqualTo(UPLOAD_KEY);
+        assertThat(copy.getValue().copySourceIfMatch()).isEqualTo(ETAG);
+        assertThat(copy.getValue().destinationKey()).startsWith("calendar/photos/").endsWith(".jpg");
+
+        verify(s3Client).deleteObject(DeleteObjectRequest.builder().bucket("photos").key(UPLOAD_KEY).build());
+        assertThat(entry.getPhotoUrl()).isEqualTo("https://cdn/" + copy.getValue().destinationKey());
+        assertThat(entry.getPhotoStatus()).isEqualTo(PhotoStatus.READY);
+    }
+
+    @Test
+    void rejectsObjectReplacedAfterValidation() {
+        when(s3Client.copyObject(any(CopyObjectRequest.class)))
+                .thenThrow(S3Exception.builder().statusCode(412).message("Precondition Failed").build());
+
+        assertThatThrownBy(() -> photoUploadService.attachPhoto(MEMBER_ID, ENTRY_ID, UPLOAD_KEY))
+                .isInstanceOf(BadRequestException.class);
+
+        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
+        assertThat(entry.getPhotoUrl()).isNull();
+    }
+}
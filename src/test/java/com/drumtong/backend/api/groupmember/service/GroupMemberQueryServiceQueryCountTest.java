@@ -0,0 +1,109 @@
+package com.drumtong.backend.api.groupmember.service;
+
+import com.drumtong.backend.api.groupInfo.dto.GroupInfoDto;
+import com.drumtong.backend.api.groupInfo.repository.GroupInfoRepository;
+import com.drumtong.backend.api.member.dto.MemberSimpleDto;
+import com.drumtong.backend.api.member.repository.MemberRepository;
+import com.drumtong.backend.support.MeterRegistryTestConfig;
+import com.drumtong.backend.support.QueryCounter;
+import com.drumtong.backend.support.TestFixtures;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 그룹원 / 가입 그룹 조회의 SQL 수가 그룹 크기와 관계없이 일정한지 확인
+ * 그룹원은 addMemberToGroup으로 추가해 member_count가 실제 가입 경로로 유지되는지도 함께 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({GroupMemberQueryService.class, GroupMemberCommandService.class, GroupMembershipIndex.class,
+        MeterRegistryTestConfig.class})
+class GroupMemberQueryServiceQueryCountTest {
+
+    @Autowired
+    private GroupMemberQueryService groupMemberQueryService;
+
+    @Autowired
+    private GroupMemberCommandService groupMemberCommandService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private GroupInfoRepository groupInfoRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private QueryCounter queryCounter;
+
+    @BeforeEach
+    void setUp() {
+        queryCounter = new QueryCounter(entityManager, entityManagerFactory);
+    }
+
+    @Test
+    void getGroupMembersIssuesTwoStatementsRegardlessOfGroupSize() {
+        Long smallGroupId = saveGroupWithMembers("small", 3);
+        Long largeGroupId = saveGroupWithMembers("large", 60);
+
+        List<MemberSimpleDto> small = queryCounter.assertStatements(2, () -> groupMemberQueryService.getGroupMembers(smallGroupId));
+        List<MemberSimpleDto> large = queryCounter.assertStatements(2, () -> groupMemberQueryService.getGroupMembers(largeGroupId));
+
+        assertThat(small).hasSize(3);
+        assertThat(large).hasSize(60);
+    }
+
+    @Test
+    void getMemberGroupsIssuesTwoStatementsRegardlessOfGroupCount() {
+        Long memberId = saveMember("joined@ddalkkug.com");
+        Long otherMemberId = saveMember("other@ddalkkug.com");
+        for (int i = 0; i < 40; i++) {
+            Long groupId = saveGroup("group-" + i, otherMemberId);
+            groupMemberCommandService.addMemberToGroup(groupId, otherMemberId);
+            groupMemberCommandService.addMemberToGroup(groupId, memberId);
+        }
+        // 본인이 리더인 그룹은 결과에서 제외
+        Long ownGroupId = saveGroup("own", memberId);
+        groupMemberCommandService.addMemberToGroup(ownGroupId, memberId);
+
+        List<GroupInfoDto> groups = queryCounter.assertStatements(2, () -> groupMemberQueryService.getMemberGroups(memberId));
+
+        assertThat(groups).hasSize(40);
+        assertThat(groups).extracting(GroupInfoDto::getMemberCount).containsOnly(2);
+    }
+
+    private Long saveGroupWithMembers(String name, int size) {
+        List<Long> memberIds = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            memberIds.add(saveMember(name + "-" + i + "@ddalkkug.com"));
+        }
+        Long groupId = saveGroup(name, memberIds.get(0));
+        memberIds.forEach(memberId -> groupMemberCommandService.addMemberToGroup(groupId, memberId));
+        return groupId;
+    }
+
+    private Long saveGroup(String name, Long leaderId) {
+        return groupInfoRepository.save(TestFixtures.group(name, leaderId)).getId();
+    }
+
+    private Long saveMember(String email) {
+        return memberRepository.save(TestFixtures.member(email)).getId();
+    }
+}
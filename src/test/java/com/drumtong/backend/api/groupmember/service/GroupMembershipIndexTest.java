@@ -0,0 +1,140 @@
+package com.drumtong.backend.api.groupmember.service;
+
+import com.drumtong.backend.api.groupInfo.repository.GroupInfoRepository;
+import com.drumtong.backend.api.groupmember.entity.GroupMember;
+import com.drumtong.backend.api.groupmember.repository.GroupMemberRepository;
+import com.drumtong.backend.api.member.dto.MemberSimpleDto;
+import com.drumtong.backend.api.member.repository.MemberRepository;
+import com.drumtong.backend.support.MeterRegistryTestConfig;
+import com.drumtong.backend.support.TestFixtures;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 그룹원 캐시가 membership_version이 그대로면 캐시를 쓰고, 바뀌면 (다른 서버의 변경 포함) 다시 읽는지 확인
+ * 서비스 호출마다 커밋되어야 하므로 테스트 트랜잭션 없이 실행
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({GroupMembershipIndex.class, GroupMemberCommandService.class, MeterRegistryTestConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class GroupMembershipIndexTest {
+
+    @Autowired
+    private GroupMembershipIndex groupMembershipIndex;
+
+    @Autowired
+    private GroupMemberCommandService groupMemberCommandService;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private GroupInfoRepository groupInfoRepository;
+
+    @Autowired
+    private GroupMemberRepository groupMemberRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Long leaderId;
+    private Long groupId;
+
+    @BeforeEach
+    void setUp() {
+        leaderId = saveMember("leader@ddalkkug.com");
+        groupId = groupInfoRepository.save(TestFixtures.group("index", leaderId)).getId();
+        groupMemberCommandService.addMemberToGroup(groupId, leaderId);
+        groupMemberCommandService.addMemberToGroup(groupId, saveMember("first@ddalkkug.com"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        groupMemberRepository.deleteAll();
+        groupInfoRepository.deleteAll();
+        memberRepository.deleteAll();
+    }
+
+    @Test
+    void readsFromCacheWhileVersionIsUnchanged() {
+        double hitsBefore = cacheHits("group.membership.members");
+        List<MemberSimpleDto> first = groupMembershipIndex.findMembers(groupId).orElseThrow();
+        List<MemberSimpleDto> second = groupMembershipIndex.findMembers(groupId).orElseThrow();
+
+        assertThat(second).isSameAs(first).hasSize(2);
+        assertThat(cacheHits("group.membership.members") - hitsBefore).isEqualTo(1);
+    }
+
+    @Test
+    void addMemberToGroupReloadsMembers() {
+        assertThat(groupMembershipIndex.findMemberIds(groupId).orElseThrow()).hasSize(2);
+
+        Long joinedId = saveMember("joined@ddalkkug.com");
+        groupMemberCommandService.addMemberToGroup(groupId, joinedId);
+
+        assertThat(groupMembershipIndex.findMemberIds(groupId).orElseThrow()).hasSize(3).contains(joinedId);
+    }
+
+    @Test
+    void changeFromAnotherInstanceIsDetectedByVersion() {
+        double staleBefore = staleCount();
+        assertThat(groupMembershipIndex.findMemberIds(groupId).orElseThrow()).hasSize(2);
+
+        // 다른 서버에서 가입한 경우 (이 서버의 캐시는 무효화되지 않고 버전만 증가)
+        Long joinedId = saveMember("remote@ddalkkug.com");
+        transactionTemplate.executeWithoutResult(status -> {
+            groupMemberRepository.save(GroupMember.builder()
+                    .groupId(groupId)
+                    .memberId(joinedId)
+                    .build());
+            groupInfoRepository.addMemberCount(groupId, 1);
+        });
+
+        assertThat(groupMembershipIndex.findMemberIds(groupId).orElseThrow()).hasSize(3).contains(joinedId);
+        assertThat(staleCount() - staleBefore).isEqualTo(1);
+    }
+
+    @Test
+    void deletedGroupIsEmpty() {
+        groupMembershipIndex.findMemberIds(groupId);
+        groupMemberRepository.deleteAll();
+        groupInfoRepository.deleteById(groupId);
+
+        assertThat(groupMembershipIndex.findMemberIds(groupId)).isEmpty();
+        assertThat(groupMembershipIndex.findMembers(groupId)).isEmpty();
+    }
+
+    private double cacheHits(String cacheName) {
+        return meterRegistry.get("cache.gets")
+                .tags("cache", cacheName, "result", "hit")
+                .functionCounter()
+                .count();
+    }
+
+    private double staleCount() {
+        return meterRegistry.get("group.membership.stale").counter().count();
+    }
+
+    private Long saveMember(String email) {
+        return memberRepository.save(TestFixtures.member(email)).getId();
+    }
+}
@@ -0,0 +1,128 @@
+package com.drumtong.backend.api.member.repository;
+
+import com.drumtong.backend.api.groupInfo.entity.GroupInfo;
+import com.drumtong.backend.api.groupInfo.repository.GroupInfoRepository;
+import com.drumtong.backend.api.member.entity.Member;
+import com.drumtong.backend.support.TestFixtures;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * totalPaid 증감 UPDATE를 여러 트랜잭션에서 동시에 실행해도 누락이 없는지 확인
+ * 먼저 읽어 둔 엔티티를 저장해도 그 사이의 증감을 덮어쓰지 않는지 확인
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MemberRepositoryConcurrencyTest {
+    private static final int THREADS = 8;
+    private static final int WRITES_PER_THREAD = 25;
+    private static final int AMOUNT = 1000;
+
+    @Autowired
+    private MemberRepository memberRepository;
+
+    @Autowired
+    private GroupInfoRepository groupInfoRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        memberRepository.deleteAll();
+        groupInfoRepository.deleteAll();
+    }
+
+    @Test
+    void concurrentMemberIncrementsAreNotLost() throws Exception {
+        Long first = saveMember("first@ddalkkug.com").getId();
+        Long second = saveMember("second@ddalkkug.com").getId();
+
+        runConcurrently(() -> memberRepository.addTotalPaid(List.of(first, second), AMOUNT));
+
+        int expected = THREADS * WRITES_PER_THREAD * AMOUNT;
+        assertThat(memberRepository.findById(first).orElseThrow().getTotalPaid()).isEqualTo(expected);
+        assertThat(memberRepository.findById(second).orElseThrow().getTotalPaid()).isEqualTo(expected);
+    }
+
+    @Test
+    void concurrentGroupIncrementsAreNotLost() throws Exception {
+        Long groupId = groupInfoRepository.save(TestFixtures.group("동시성 테스트", 1L)).getId();
+
+        runConcurrently(() -> groupInfoRepository.addTotalPaid(groupId, AMOUNT));
+
+        assertThat(groupInfoRepository.findById(groupId).orElseThrow().getTotalPaid())
+                .isEqualTo(THREADS * WRITES_PER_THREAD * AMOUNT);
+    }
+
+    @Test
+    void savingStaleMemberKeepsTotalPaid() {
+        Long memberId = saveMember("stale@ddalkkug.com").getId();
+        Member stale = memberRepository.findById(memberId).orElseThrow();
+
+        transactionTemplate.executeWithoutResult(status -> memberRepository.addTotalPaid(List.of(memberId), AMOUNT));
+        stale.updatePassword("changed");
+        memberRepository.save(stale);
+
+        Member saved = memberRepository.findById(memberId).orElseThrow();
+        assertThat(saved.getPassword()).isEqualTo("changed");
+        assertThat(saved.getTotalPaid()).isEqualTo(AMOUNT);
+    }
+
+    @Test
+    void savingStaleGroupKeepsTotalPaid() {
+        Long groupId = groupInfoRepository.save(TestFixtures.group("이전 상태", 1L)).getId();
+        GroupInfo stale = groupInfoRepository.findById(groupId).orElseThrow();
+
+        transactionTemplate.executeWithoutResult(status -> groupInfoRepository.addTotalPaid(groupId, AMOUNT));
+        stale.update(stale.getLeaderId(), "수정된 이름", stale.getDescription());
+        groupInfoRepository.save(stale);
+
+        GroupInfo saved = groupInfoRepository.findById(groupId).orElseThrow();
+        assertThat(saved.getName()).isEqualTo("수정된 이름");
+        assertThat(saved.getTotalPaid()).isEqualTo(AMOUNT);
+    }
+
+    private Member saveMember(String email) {
+        return memberRepository.save(TestFixtures.member(email));
+    }
+
+    // 스레드마다 WRITES_PER_THREAD번, 각각 별도 트랜잭션으로 실행
+    private void runConcurrently(Runnable write) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < THREADS; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    for (int j = 0; j < WRITES_PER_THREAD; j++) {
+                        transactionTemplate.executeWithoutResult(status -> write.run());
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.drumtong.backend.api.member.service;
+
+import com.drumtong.backend.api.member.entity.EmailDispatch;
+import com.drumtong.backend.api.member.entity.EmailDispatchStatus;
+import com.drumtong.backend.api.member.repository.EmailDispatchRepository;
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import jakarta.mail.Message;
+import jakarta.mail.internet.MimeMessage;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 메일 대기열 발송을 로컬 SMTP 서버(GreenMail)로 확인
+ */
+@DataJpaTest(properties = "spring.mail.username=noreply@ddalkkug.com")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import({EmailDispatchService.class, EmailDispatchServiceTest.MailConfig.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EmailDispatchServiceTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    @TestConfiguration
+    static class MailConfig {
+        @Bean
+        JavaMailSender javaMailSender() {
+            JavaMailSenderImpl mailSender = new JavaMailSenderImpl();
+            mailSender.setHost("localhost");
+            mailSender.setPort(ServerSetupTest.SMTP.getPort());
+            return mailSender;
+        }
+    }
+
+    @Autowired
+    private EmailDispatchService emailDispatchService;
+
+    @Autowired
+    private EmailDispatchRepository emailDispatchRepository;
+
+    @AfterEach
+    void tearDown() {
+        emailDispatchRepository.deleteAll();
+    }
+
+    @Test
+    void sendsQueuedEmailsInOneBatch() throws Exception {
+        LocalDateTime expiresAt = LocalDateTime.now().plusMinutes(5);
+        emailDispatchService.enqueue("a@ddalkkug.com", "인증코드", "123456", expiresAt);
+        emailDispatchService.enqueue("b@ddalkkug.com", "인증코드", "234567", expiresAt);
+        emailDispatchService.enqueue("c@ddalkkug.com", "인증코드", "345678", expiresAt);
+
+        assertThat(emailDispatchService.dispatchBatch(10)).isEqualTo(3);
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 3)).isTrue();
+        List<String> recipients = Arrays.stream(greenMail.getReceivedMessages())
+                .map(EmailDispatchServiceTest::recipientOf)
+                .toList();
+        assertThat(recipients).containsExactlyInAnyOrder("a@ddalkkug.com", "b@ddalkkug.com", "c@ddalkkug.com");
+        assertThat(emailDispatchRepository.findAll())
+                .extracting(EmailDispatch::getStatus)
+                .containsOnly(EmailDispatchStatus.SENT);
+    }
+
+    @Test
+    void schedulesRetryWhenSmtpIsUnavailable() {
+        greenMail.stop();
+        emailDispatchService.enqueue("a@ddalkkug.com", "인증코드", "123456", LocalDateTime.now().plusMinutes(5));
+
+        assertThat(emailDispatchService.dispatchBatch(10)).isEqualTo(1);
+
+        EmailDispatch dispatch = emailDispatchRepository.findAll().get(0);
+        assertThat(dispatch.getStatus()).isEqualTo(EmailDispatchStatus.PENDING);
+        assertThat(dispatch.getAttempts()).isEqualTo(1);
+        assertThat(dispatch.getLastError()).isNotNull();
+        assertThat(dispatch.getNextAttemptAt()).isAfter(LocalDateTime.now());
+        // 다음 시도 시각 전에는 다시 가져가지 않음
+        assertThat(emailDispatchService.dispatchBatch(10)).isZero();
+    }
+
+    @Test
+    void dropsEmailWhenCodeExpiresBeforeNextAttempt() {
+        greenMail.stop();
+        emailDispatchService.enqueue("a@ddalkkug.com", "인증코드", "123456", LocalDateTime.now().plusSeconds(2));
+
+        assertThat(emailDispatchService.dispatchBatch(10)).isEqualTo(1);
+
+        assertThat(emailDispatchRepository.count()).isZero();
+    }
+
+    @Test
+    void doesNotSendExpiredEmails() {
+        emailDispatchService.enqueue("a@ddalkkug.com", "인증코드", "123456", LocalDateTime.now().minusMinutes(1));
+
+        assertThat(emailDispatchService.dispatchBatch(10)).isZero();
+        assertThat(greenMail.getReceivedMessages()).isEmpty();
+
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(emailDispatchService.purge(now, now.minusDays(1))).isEqualTo(1);
+        assertThat(emailDispatchRepository.count()).isZero();
+    }
+
+    @Test
+    void purgesOldFailedEmails() {
+        LocalDateTime old = LocalDateTime.now().minusDays(2);
+        emailDispatchRepository.save(EmailDispatch.builder()
+                .recipient("a@ddalkkug.com")
+                .subject("비밀번호 초기화")
+                .body("AbC123")
+                .status(EmailDispatchStatus.FAILED)
+                .attempts(8)
+                .nextAttemptAt(old)
+                .createdAt(old)
+                .build());
+
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(emailDispatchService.purge(now, now.minusDays(1))).isEqualTo(1);
+        assertThat(emailDispatchRepository.count()).isZero();
+    }
+
+    private static String recipientOf(MimeMessage message) {
+        try {
+            return message.getRecipients(Message.RecipientType.TO)[0].toString();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
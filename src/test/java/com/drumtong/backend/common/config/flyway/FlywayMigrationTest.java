@@ -0,0 +1,125 @@
+package com.drumtong.backend.common.config.flyway;
+
+import com.drumtong.backend.api.calendar.repository.CalendarEntryRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 실제 PostgreSQL에 V1..Vn 마이그레이션을 적용한 뒤
+ * - Hibernate가 엔티티와 스키마를 검증(ddl-auto=validate, FlywayConfig)해서 컨텍스트가 뜨는지
+ * - 자주 쓰는 조회가 EXPLAIN에서 인덱스를 쓰는지 확인
+ * 데이터가 없으면 플래너가 항상 Seq Scan을 고르므로 enable_seqscan을 끄고 인덱스를 쓸 수 있는지만 봄
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import(FlywayConfig.class)
+class FlywayMigrationTest {
+
+    @Container
+    @ServiceConnection
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @Autowired
+    private EntityManager entityManager;
+
+    static Stream<Arguments> finders() throws NoSuchMethodException {
+        return Stream.of(
+                // CalendarEntryRepository 파생 조회
+                Arguments.of("findByUserId",
+                        "select * from calendar_entries where user_id = 1"),
+                Arguments.of("findByUserIdAndDrinkingDateBetween",
+                        "select * from calendar_entries where user_id = 1 " +
+                                "and drinking_date between date '2025-03-01' and date '2025-03-31'"),
+                Arguments.of("findByUserIdAndDrinkingDate",
+                        "select * from calendar_entries where user_id = 1 and drinking_date = date '2025-03-14'"),
+                Arguments.of("findByGroupId",
+                        "select * from calendar_entries where group_id = 1"),
+                Arguments.of("findByUserIdAndIsGroupSharedTrue",
+                        "select * from calendar_entries where user_id = 1 and is_group_shared = true"),
+                Arguments.of("findByGroupIdAndIsGroupSharedTrue",
+                        "select * from calendar_entries where group_id = 1 and is_group_shared = true"),
+                Arguments.of("findByGroupIdAndDrinkingDateBetween",
+                        "select * from calendar_entries where group_id = 1 " +
+                                "and drinking_date between date '2025-03-01' and date '2025-03-31'"),
+                Arguments.of("findByGroupIdAndDrinkingDate",
+                        "select * from calendar_entries where group_id = 1 and drinking_date = date '2025-03-14'"),
+                Arguments.of("findByGroupIdAndGroupEntryId",
+                        "select * from calendar_entries where group_id = 1 and group_entry_id = 1"),
+                Arguments.of("findByGroupEntryId",
+                        "select * from calendar_entries where group_entry_id = 1"),
+                // CalendarEntryRepository 페이지 조회 (실제 네이티브 쿼리)
+                Arguments.of("findPageByUserId", pageQuery("findPageByUserId", ":userId")),
+                Arguments.of("findPageByGroupId", pageQuery("findPageByGroupId", ":groupId")),
+                Arguments.of("findGroupSharedPageByUserId", pageQuery("findGroupSharedPageByUserId", ":userId")),
+                // 사진 상태 변경 / 오래된 PENDING 사진
+                Arguments.of("updateUploadedPhoto",
+                        "select * from calendar_entries where photo_url = 'https://example.com/a.jpg'"),
+                Arguments.of("failStalePhotos",
+                        "select * from calendar_entries where photo_status = 'PENDING' " +
+                                "and photo_staged_at < timestamp '2025-03-14 00:00:00'"),
+                Arguments.of("calendar_drinks by entry",
+                        "select * from calendar_drinks where calendar_id = 1"),
+                // GroupMemberRepository
+                Arguments.of("GroupMember.findByGroupId",
+                        "select * from group_members where group_id = 1"),
+                Arguments.of("GroupMember.findByMemberId",
+                        "select * from group_members where member_id = 1"),
+                Arguments.of("GroupMember.findByGroupIdAndMemberId",
+                        "select * from group_members where group_id = 1 and member_id = 2"),
+                // GroupInfoRepository
+                Arguments.of("GroupInfo.findAllByLeaderIdOrderByIdAsc",
+                        "select * from group_info where leader_id = 1 order by id"),
+                Arguments.of("GroupInfo.findByName",
+                        "select * from group_info where name = 'drumtong'"),
+                // MemberRepository
+                Arguments.of("Member.findByEmail",
+                        "select * from member where email = 'user@ddalkkug.com'"));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("finders")
+    void finderUsesIndex(String finder, String sql) {
+        String plan = explain(sql);
+
+        assertThat(plan).as(finder + "\n" + plan).containsPattern("Index (Only )?Scan|Bitmap Index Scan");
+        assertThat(plan).as(finder + "\n" + plan).doesNotContain("Seq Scan");
+    }
+
+    private String explain(String sql) {
+        entityManager.createNativeQuery("set local enable_seqscan = off").executeUpdate();
+        List<?> rows = entityManager.createNativeQuery("explain " + sql).getResultList();
+        return rows.stream().map(String::valueOf).collect(Collectors.joining("\n"));
+    }
+
+    // 리포지토리에 선언된 네이티브 쿼리에 값을 넣어서 그대로 확인
+    private static String pageQuery(String method, String ownerParam) throws NoSuchMethodException {
+        String sql = CalendarEntryRepository.class
+                .getMethod(method, Long.class, LocalDate.class, Long.class, Pageable.class)
+                .getAnnotation(Query.class)
+                .value();
+        return sql.replace(ownerParam, "1")
+                .replace(":cursorDate", "date '2025-03-14'")
+                .replace(":cursorId", "1000")
+                + " limit 21";
+    }
+}
@@ -0,0 +1,17 @@
+package com.drumtong.backend.support;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+
+/**
+ * JPA 슬라이스 테스트에는 메트릭 자동 설정이 없으므로 MeterRegistry를 쓰는 빈을 가져올 때 함께 Import
+ */
+@TestConfiguration
+public class MeterRegistryTestConfig {
+    @Bean
+    MeterRegistry meterRegistry() {
+        return new SimpleMeterRegistry();
+    }
+}
@@ -0,0 +1,36 @@
+package com.drumtong.backend.support;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * JPA 슬라이스 테스트에서 조회 한 번에 실행된 SQL 수 검증
+ * (application-test.yml의 generate_statistics 설정 필요)
+ */
+public class QueryCounter {
+    private final EntityManager entityManager;
+    private final Statistics statistics;
+
+    public QueryCounter(EntityManager entityManager, EntityManagerFactory entityManagerFactory) {
+        this.entityManager = entityManager;
+        this.statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    // 영속성 컨텍스트를 비운 뒤 실행한 SQL 수 확인
+    public <T> T assertStatements(long expected, Supplier<T> query) {
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+
+        T result = query.get();
+
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        return result;
+    }
+}
@@ -0,0 +1,36 @@
+package com.drumtong.backend.support;
+
+import com.drumtong.backend.api.groupInfo.entity.GroupInfo;
+import com.drumtong.backend.api.member.entity.Member;
+
+import java.time.LocalDateTime;
+
+/**
+ * 테스트에서 공통으로 저장하는 회원 / 그룹 엔티티
+ * 그룹원은 GroupMemberCommandService.addMemberToGroup으로 추가해 member_count를 실제 경로로 맞춤
+ */
+public final class TestFixtures {
+
+    private TestFixtures() {
+    }
+
+    public static Member member(String email) {
+        return Member.builder()
+                .email(email)
+                .password("password")
+                .nickname(email)
+                .totalPaid(0)
+                .build();
+    }
+
+    // 그룹원이 없는 그룹 (memberCount 0)
+    public static GroupInfo group(String name, Long leaderId) {
+        return GroupInfo.builder()
+                .leaderId(leaderId)
+                .name(name)
+                .totalPaid(0)
+                .memberCount(0)
+                .lastActivityAt(LocalDateTime.now())
+                .build();
+    }
+}